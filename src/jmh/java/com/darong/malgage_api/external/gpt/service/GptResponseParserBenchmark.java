@@ -0,0 +1,56 @@
+package com.darong.malgage_api.external.gpt.service;
+
+import com.darong.malgage_api.controller.dto.response.record.RecordAnalysisResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GPT 응답 파싱 벤치마크 (이전 구현 vs 현재 구현)
+ * - 실제 응답처럼 앞쪽 설명 문구 + ```json 코드펜스 + 여러 건의 기록으로 구성
+ * - 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GptResponseParserBenchmark {
+
+    private static final String RECORD = """
+            {"type": "expense", "amount": %d, "memo": "점심 김치찌개 %d", "categoryId": 3, \
+            "paymentMethod": "CREDIT_CARD", "emotionId": 2, "isInstallment": false, \
+            "installmentMonths": null, "date": "2025-07-%02dT12:30:00"}""";
+
+    @Param({"1", "5", "20"})
+    private int recordCount;
+
+    private String payload;
+    private GptResponseParser parser;
+    private LegacyGptResponseParser legacyParser;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        parser = new GptResponseParser(objectMapper);
+        legacyParser = new LegacyGptResponseParser(objectMapper);
+
+        StringBuilder sb = new StringBuilder("분석 결과입니다.\n```json\n[\n");
+        for (int i = 0; i < recordCount; i++) {
+            if (i > 0) sb.append(",\n");
+            sb.append(RECORD.formatted(8000 + i * 100, i, i % 28 + 1));
+        }
+        payload = sb.append("\n]\n```").toString();
+    }
+
+    @Benchmark
+    public List<RecordAnalysisResponse> current() {
+        return parser.parseToRecords(payload);
+    }
+
+    @Benchmark
+    public List<RecordAnalysisResponse> legacy() throws Exception {
+        return legacyParser.parseToRecords(payload);
+    }
+}
@@ -1,9 +1,14 @@
-package com.darong.malgage_api.external.gpt.util;
+package com.darong.malgage_api.external.gpt.service;
 
-import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-@Slf4j
-public class JsonExtractor {
+/**
+ * 이전 응답 파싱 방식의 JSON 부분 추출 (LegacyGptResponseParser 비교 벤치마크 전용)
+ */
+class JsonExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonExtractor.class);
 
     private final String response;
 
@@ -32,7 +37,7 @@ public class JsonExtractor {
             int objectStart = response.indexOf("{");
             if (objectStart == -1 || start < objectStart) {
                 String result = response.substring(start, end + 1);
-                log.info("배열 JSON 추출: {}", result);
+                log.debug("배열 JSON 추출: {}", result);
                 return result;
             }
         }
@@ -46,7 +51,7 @@ public class JsonExtractor {
 
         if (start != -1 && end != -1 && end > start) {
             String result = response.substring(start, end + 1);
-            log.info("객체 JSON 추출: {}", result);
+            log.debug("객체 JSON 추출: {}", result);
             return result;
         }
 
@@ -0,0 +1,39 @@
+package com.darong.malgage_api.external.gpt.service;
+
+import com.darong.malgage_api.controller.dto.response.record.RecordAnalysisResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 비교용: 이전 GptResponseParser 구현
+ * - 부분 문자열 추출 → readTree → 원소마다 writeValueAsString → readValue
+ */
+class LegacyGptResponseParser {
+
+    private final ObjectMapper objectMapper;
+
+    LegacyGptResponseParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    List<RecordAnalysisResponse> parseToRecords(String gptResponse) throws Exception {
+        String jsonOnly = new JsonExtractor(gptResponse).extract();
+        JsonNode rootNode = objectMapper.readTree(jsonOnly);
+
+        if (rootNode.isObject()) {
+            return List.of(parseObjectNode(rootNode));
+        }
+        List<RecordAnalysisResponse> records = new ArrayList<>();
+        for (JsonNode node : rootNode) {
+            records.add(parseObjectNode(node));
+        }
+        return records;
+    }
+
+    private RecordAnalysisResponse parseObjectNode(JsonNode node) throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(node), RecordAnalysisResponse.class);
+    }
+}
@@ -3,9 +3,11 @@ package com.darong.malgage_api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing // 이거 추가!
+@EnableScheduling // 동기화 삭제 기록 정리 (SyncTombstonePurgeScheduler)
 public class MalgageApiApplication {
 
 	public static void main(String[] args) {
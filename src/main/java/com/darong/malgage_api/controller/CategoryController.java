@@ -8,10 +8,13 @@ import com.darong.malgage_api.controller.dto.response.category.CategoryResponseD
 import com.darong.malgage_api.domain.category.CategoryType;
 import com.darong.malgage_api.service.CategoryService;
 import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.global.cache.ConditionalRequests;
+import com.darong.malgage_api.global.cache.VersionScope;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,16 +28,22 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final ConditionalRequests conditionalRequests;
 
     /**
      * ✅ 사용자의 모든 카테고리 조회
+     * - 카탈로그가 그대로면 ETag 로 304 (조회 없음)
      */
     @GetMapping("/all")
     public ResponseEntity<List<CategoryResponseDto>> getAllCategories(
-            @CurrentUser User user  // 🎉 해당 사용자의 카테고리만 조회
+            @CurrentUser User user,  // 🎉 해당 사용자의 카테고리만 조회
+            WebRequest webRequest
     ) {
+        if (conditionalRequests.notModified(webRequest, user.getId(), VersionScope.CATALOG)) {
+            return null;
+        }
         List<CategoryResponseDto> responses = categoryService.getAllCategories(user);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(responses);
     }
 
     /**
@@ -61,11 +70,15 @@ public class CategoryController {
     @GetMapping("/visible")
     public ResponseEntity<List<CategoryResponseDto>> getVisibleCategories(
             @CurrentUser User user,
-            @RequestParam String type
+            @RequestParam String type,
+            WebRequest webRequest
     ) {
         CategoryType categoryType = CategoryType.valueOf(type.toUpperCase()); // 문자열을 enum으로 변환
+        if (conditionalRequests.notModified(webRequest, user.getId(), VersionScope.CATALOG)) {
+            return null;
+        }
         List<CategoryResponseDto> categories = categoryService.getVisibleCategories(user, categoryType);
-        return ResponseEntity.ok(categories);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(categories);
     }
 
     /**
@@ -7,10 +7,13 @@ import com.darong.malgage_api.domain.emotion.EmotionScope;
 import com.darong.malgage_api.controller.dto.response.emotion.EmotionResponseDto;
 import com.darong.malgage_api.service.EmotionService;
 import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.global.cache.ConditionalRequests;
+import com.darong.malgage_api.global.cache.VersionScope;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -20,16 +23,22 @@ import java.util.List;
 public class EmotionController {
 
     private final EmotionService emotionService;
+    private final ConditionalRequests conditionalRequests;
 
     /**
      * ✅ 사용자의 모든 감정 조회
+     * - 카탈로그가 그대로면 ETag 로 304 (조회 없음)
      */
     @GetMapping("/all")
     public ResponseEntity<List<EmotionResponseDto>> getAllEmotions(
-            @CurrentUser User user  // 🎉 해당 사용자의 감정 조회
+            @CurrentUser User user,  // 🎉 해당 사용자의 감정 조회
+            WebRequest webRequest
     ) {
+        if (conditionalRequests.notModified(webRequest, user.getId(), VersionScope.CATALOG)) {
+            return null;
+        }
         List<EmotionResponseDto> responses = emotionService.getAllEmotions(user);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(responses);
     }
 
     /**
@@ -50,11 +59,14 @@ public class EmotionController {
      */
     @GetMapping("/visible")
     public ResponseEntity<List<EmotionResponseDto>> getVisibleCategories(
-            @CurrentUser User user
+            @CurrentUser User user,
+            WebRequest webRequest
     ) {
-        // 문자열을 enum으로 변환
+        if (conditionalRequests.notModified(webRequest, user.getId(), VersionScope.CATALOG)) {
+            return null;
+        }
         List<EmotionResponseDto> categories = emotionService.getVisibleEmotions(user);
-        return ResponseEntity.ok(categories);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(categories);
     }
 
     /**
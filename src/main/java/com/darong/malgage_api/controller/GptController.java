@@ -2,14 +2,28 @@ package com.darong.malgage_api.controller;
 
 import com.darong.malgage_api.global.security.CurrentUser;
 import com.darong.malgage_api.controller.dto.request.record.AnalysisRequest;
+import com.darong.malgage_api.controller.dto.request.record.BatchAnalysisRequest;
+import com.darong.malgage_api.controller.dto.response.record.BatchAnalysisResponse;
 import com.darong.malgage_api.controller.dto.response.record.MultipleRecordAnalysisResponse;
 import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.external.gpt.exception.RateLimitException;
 import com.darong.malgage_api.external.gpt.service.GptService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Slf4j
 @RestController
 @RequestMapping("/api")
@@ -24,28 +38,93 @@ public class GptController {
         return ResponseEntity.ok("컨트롤러 동작 중");
     }
 
+    /**
+     * ✅ 자연어 기록 분석
+     * - Servlet 비동기 처리: OpenAI 응답을 기다리는 동안 요청 스레드를 반환
+     */
     @PostMapping("/records/analyze")
-    public ResponseEntity<MultipleRecordAnalysisResponse> analyzeText(@RequestBody AnalysisRequest request, @CurrentUser User user) {
-        try {
-            log.info("기록 분석 요청: {}", request.getText());
+    public CompletableFuture<ResponseEntity<MultipleRecordAnalysisResponse>> analyzeText(@RequestBody AnalysisRequest request, @CurrentUser User user) {
+        log.info("기록 분석 요청: {}", request.getText());
+
+        return gptService.extractRecordInfo(user, request.getText())
+                .thenApply(response -> {
+                    log.info("분석 결과: 성공={}, 기록수={}", response.isSuccess(), response.getRecordCount());
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(e -> {
+                    log.error("분석 중 오류 발생: {}", e.getMessage(), e);
+
+                    // 오류 응답 생성
+                    MultipleRecordAnalysisResponse errorResponse = MultipleRecordAnalysisResponse.builder()
+                            .success(false)
+                            .recordCount(0)
+                            .records(null)
+                            .errorMessage("서버 오류가 발생했습니다. 다시 시도해주세요.")
+                            .build();
 
-            MultipleRecordAnalysisResponse response = gptService.extractRecordInfo(user, request.getText());
+                    return ResponseEntity.status(500).body(errorResponse);
+                });
+    }
+
+    /**
+     * ✅ 자연어 기록 일괄 분석
+     * - 여러 발화를 OpenAI 호출 1번으로 분석 (시스템 프롬프트 비용을 발화 수만큼 나눔)
+     * - results 는 요청 순서와 같고, 발화별로 성공/실패가 따로 표시됨
+     * - texts 가 비었거나 너무 많으면 400
+     */
+    @PostMapping("/records/analyze/batch")
+    public CompletableFuture<ResponseEntity<BatchAnalysisResponse>> analyzeTextBatch(@RequestBody @Valid BatchAnalysisRequest request, @CurrentUser User user) {
+        log.info("기록 일괄 분석 요청: {}건", request.getTexts().size());
 
-            log.info("분석 결과: 성공={}, 기록수={}", response.isSuccess(), response.getRecordCount());
+        return gptService.extractRecordInfoBatch(user, request.getTexts())
+                .thenApply(response -> {
+                    log.info("일괄 분석 결과: 요청={}, 성공={}", response.getRequestedCount(), response.getSucceededCount());
+                    return ResponseEntity.ok(response);
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    BatchAnalysisResponse errorResponse = BatchAnalysisResponse.builder()
+                            .requestedCount(request.getTexts().size())
+                            .succeededCount(0)
+                            .results(null)
+                            .build();
 
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            log.error("분석 중 오류 발생: {}", e.getMessage(), e);
+                    if (cause instanceof IllegalArgumentException) {
+                        log.warn("일괄 분석 요청 오류: {}", cause.getMessage());
+                        errorResponse.setErrorMessage(cause.getMessage());
+                        return ResponseEntity.badRequest().body(errorResponse);
+                    }
+
+                    log.error("일괄 분석 중 오류 발생: {}", cause.getMessage(), cause);
+                    errorResponse.setErrorMessage("서버 오류가 발생했습니다. 다시 시도해주세요.");
+                    return ResponseEntity.status(500).body(errorResponse);
+                });
+    }
 
-            // 오류 응답 생성
-            MultipleRecordAnalysisResponse errorResponse = MultipleRecordAnalysisResponse.builder()
-                    .success(false)
-                    .recordCount(0)
-                    .records(null)
-                    .errorMessage("서버 오류가 발생했습니다. 다시 시도해주세요.")
-                    .build();
+    /**
+     * ✅ 자연어 기록 분석 (SSE 스트리밍)
+     * - record: 기록 1건이 완성될 때마다 전송
+     * - done: 전체 완료 (recordCount)
+     * - error: 분석 실패 (이후 스트림 종료)
+     */
+    @PostMapping(value = "/records/analyze/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> analyzeTextStream(@RequestBody AnalysisRequest request, @CurrentUser User user) {
+        log.info("기록 분석(스트리밍) 요청: {}", request.getText());
 
-            return ResponseEntity.status(500).body(errorResponse);
-        }
+        AtomicInteger count = new AtomicInteger();
+        return gptService.streamRecordInfo(user, request.getText())
+                .map(record -> {
+                    count.incrementAndGet();
+                    return ServerSentEvent.<Object>builder(record).event("record").build();
+                })
+                .concatWith(Mono.fromSupplier(() ->
+                        ServerSentEvent.<Object>builder(Map.of("recordCount", count.get())).event("done").build()))
+                .onErrorResume(e -> {
+                    log.error("스트리밍 분석 중 오류 발생: {}", e.getMessage(), e);
+                    String message = e instanceof RateLimitException
+                            ? "API 요청 한도에 도달했습니다. 잠시 후 다시 시도해주세요."
+                            : "텍스트 분석에 실패했습니다. 다시 시도해주세요.";
+                    return Mono.just(ServerSentEvent.<Object>builder(Map.of("errorMessage", message)).event("error").build());
+                });
     }
 }
\ No newline at end of file
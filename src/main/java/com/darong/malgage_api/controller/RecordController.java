@@ -2,17 +2,25 @@
 package com.darong.malgage_api.controller;
 
 import com.darong.malgage_api.global.security.CurrentUser;
+import com.darong.malgage_api.controller.dto.request.record.RecordBulkSaveRequestDto;
 import com.darong.malgage_api.controller.dto.request.record.RecordSaveRequestDto;
 import com.darong.malgage_api.controller.dto.request.record.RecordUpdateRequestDto;
 import com.darong.malgage_api.service.RecordService;
+import com.darong.malgage_api.controller.dto.response.record.RecordBulkSaveResponseDto;
+import com.darong.malgage_api.controller.dto.response.record.RecordPageResponseDto;
 import com.darong.malgage_api.controller.dto.response.record.RecordResponseDto;
 import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.global.cache.ConditionalRequests;
+import com.darong.malgage_api.global.cache.VersionScope;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -22,6 +30,7 @@ import java.util.List;
 public class RecordController {
 
     private final RecordService recordService;
+    private final ConditionalRequests conditionalRequests;
 
     /**
      * ✅ 가계부 기록 단건 조회
@@ -38,15 +47,39 @@ public class RecordController {
     /**
      * ✅ 월별 가계부 기록 조회
      * 예: /api/records/by-month?year=2025&month=7
+     * - 기록/카탈로그가 그대로면 ETag 로 304 (조회 없음)
      */
     @GetMapping("/by-month")
     public ResponseEntity<List<RecordResponseDto>> getMonthlyRecords(
             @CurrentUser User user,
             @RequestParam int year,
-            @RequestParam int month
+            @RequestParam int month,
+            WebRequest webRequest
     ) {
+        if (conditionalRequests.notModified(webRequest, user.getId(), VersionScope.RECORDS, VersionScope.CATALOG)) {
+            return null;
+        }
         List<RecordResponseDto> responses = recordService.getMonthlyRecords(user, year, month);
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().cacheControl(ConditionalRequests.REVALIDATE).body(responses);
+    }
+
+    /**
+     * ✅ 커서 기반 가계부 기록 목록 조회 (최신순)
+     * 예: /api/records?size=20
+     *     /api/records?cursorDate=2025-07-12T10:00:00&cursorId=42&size=20
+     *     /api/records?year=2025&month=7 (해당 월로 제한)
+     */
+    @GetMapping
+    public ResponseEntity<RecordPageResponseDto> getRecordPage(
+            @CurrentUser User user,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorDate,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size
+    ) {
+        RecordPageResponseDto response = recordService.getRecordPage(user, year, month, cursorDate, cursorId, size);
+        return ResponseEntity.ok(response);
     }
 
     @PostMapping
@@ -59,6 +92,19 @@ public class RecordController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * ✅ 가계부 기록 대량 등록 (다른 가계부 앱 데이터 이전용)
+     * - 실패한 행은 건너뛰고 응답의 errors 에 index 와 사유를 담음
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<RecordBulkSaveResponseDto> createRecordsInBulk(
+            @CurrentUser User user,
+            @RequestBody @Valid RecordBulkSaveRequestDto dto
+    ) {
+        RecordBulkSaveResponseDto response = recordService.createRecordsInBulk(user, dto);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * ✅ 가계부 기록 수정
      * @param user 현재 로그인 된 사용자
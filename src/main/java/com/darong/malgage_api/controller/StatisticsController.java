@@ -4,6 +4,8 @@ import com.darong.malgage_api.global.security.CurrentUser;
 import com.darong.malgage_api.controller.dto.response.statistics.StatisticsResponseDto;
 import com.darong.malgage_api.domain.statistics.StatisticsPeriod;
 import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.global.cache.ConditionalRequests;
+import com.darong.malgage_api.global.cache.VersionScope;
 import com.darong.malgage_api.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,17 +21,26 @@ import org.springframework.web.bind.annotation.RestController;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final ConditionalRequests conditionalRequests;
 
+    /**
+     * ✅ 기간별 통계 조회
+     * - 기록/카탈로그가 그대로면 ETag 로 304 (조회 없음)
+     */
     @GetMapping
     public ResponseEntity<StatisticsResponseDto> getStatistics(
             @CurrentUser User user,
             @RequestParam("type") String type,
             @RequestParam("year") int year,
-            @RequestParam(value = "month", required = false) Integer month
+            @RequestParam(value = "month", required = false) Integer month,
+            WebRequest webRequest
     ) {
         StatisticsPeriod period = StatisticsPeriod.from(type);
-        return ResponseEntity.ok(
-                statisticsService.getStatistics(user, period, year, month)
-        );
+        if (conditionalRequests.notModified(webRequest, user.getId(), VersionScope.RECORDS, VersionScope.CATALOG)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(ConditionalRequests.REVALIDATE)
+                .body(statisticsService.getStatistics(user, period, year, month));
     }
 }
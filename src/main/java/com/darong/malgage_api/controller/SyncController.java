@@ -0,0 +1,36 @@
+package com.darong.malgage_api.controller;
+
+import com.darong.malgage_api.controller.dto.response.sync.SyncResponseDto;
+import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.global.security.CurrentUser;
+import com.darong.malgage_api.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 증분 동기화 컨트롤러
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * ✅ 마지막 동기화 이후 바뀐 기록/할부 회차/카테고리/감정 조회
+     * 예: /api/sync (첫 동기화), /api/sync?since={직전 응답의 nextToken}
+     * hasMore = true 면 nextToken 으로 바로 다음 페이지 요청
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponseDto> sync(
+            @CurrentUser User user,
+            @RequestParam(value = "since", required = false) String since
+    ) {
+        return ResponseEntity.ok(syncService.sync(user, since));
+    }
+}
@@ -0,0 +1,25 @@
+package com.darong.malgage_api.controller.dto.request.record;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 여러 발화 일괄 분석 요청 (오프라인에 쌓인 음성 메모 등)
+ * - 개별 발화는 여기서 검증하지 않음 (빈 발화는 해당 결과만 실패로 응답)
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+public class BatchAnalysisRequest {
+
+    public static final int MAX_TEXTS = 20;
+
+    @NotEmpty(message = "분석할 문장이 없습니다.")
+    @Size(max = MAX_TEXTS, message = "한 번에 분석할 수 있는 문장은 최대 20개입니다.")
+    private List<String> texts;
+}
@@ -0,0 +1,21 @@
+package com.darong.malgage_api.controller.dto.request.record;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 가계부 기록 대량 등록 요청 (다른 가계부 앱에서 이전 시 사용)
+ * - 개별 행은 여기서 검증하지 않음 (한 행이 잘못돼도 나머지는 저장하고 행별 오류로 응답)
+ */
+@Getter
+public class RecordBulkSaveRequestDto {
+
+    public static final int MAX_RECORDS = 10_000;
+
+    @NotNull(message = "records 는 필수입니다.")
+    @Size(max = MAX_RECORDS, message = "한 번에 등록할 수 있는 기록은 최대 10000건입니다.")
+    private List<RecordSaveRequestDto> records;
+}
@@ -0,0 +1,23 @@
+package com.darong.malgage_api.controller.dto.response.record;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 분석 응답
+ * - results 는 요청 texts 와 같은 순서 (발화별 성공/실패가 따로 표시됨)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchAnalysisResponse {
+    private int requestedCount;                          // 요청 발화 수
+    private int succeededCount;                          // 분석 성공 발화 수
+    private List<MultipleRecordAnalysisResponse> results; // 발화별 결과
+    private String errorMessage;                         // 요청 전체가 실패했을 때만 (그 외 null)
+}
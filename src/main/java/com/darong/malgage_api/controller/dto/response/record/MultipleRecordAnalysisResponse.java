@@ -17,4 +17,5 @@ public class MultipleRecordAnalysisResponse {
     private int recordCount;                    // 추출된 기록 개수
     private List<RecordAnalysisResponse> records; // 기록 리스트
     private String errorMessage;                // 오류 메시지
+    private boolean degraded;                   // true 면 AI 대신 간이 분석 결과 (records 는 초안)
 }
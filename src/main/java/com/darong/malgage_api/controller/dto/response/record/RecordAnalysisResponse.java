@@ -1,5 +1,6 @@
 package com.darong.malgage_api.controller.dto.response.record;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,4 +32,7 @@ public class RecordAnalysisResponse {
 
     private Integer installmentMonths; // 할부 개월수 (null 가능)
     private LocalDateTime date;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean draft;             // true 면 AI 분석이 아닌 간이 분석 결과 (사용자 확인 필요), 그 외 생략
 }
@@ -0,0 +1,25 @@
+package com.darong.malgage_api.controller.dto.response.record;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 가계부 기록 대량 등록 결과
+ * - 실패한 행만 errors 에 담기며, 나머지 행은 정상 저장됨
+ */
+@Getter
+@AllArgsConstructor
+public class RecordBulkSaveResponseDto {
+    private int requestedCount;
+    private int savedCount;
+    private List<RowError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int index;          // 요청 records 배열 내 위치 (0부터)
+        private String message;
+    }
+}
@@ -0,0 +1,20 @@
+package com.darong.malgage_api.controller.dto.response.record;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 커서 기반 기록 목록 응답
+ * - 다음 페이지는 nextCursorDate / nextCursorId 를 그대로 넘겨 요청
+ */
+@Getter
+@AllArgsConstructor
+public class RecordPageResponseDto {
+    private List<RecordResponseDto> records;
+    private boolean hasNext;
+    private LocalDateTime nextCursorDate;   // hasNext = false 이면 null
+    private Long nextCursorId;
+}
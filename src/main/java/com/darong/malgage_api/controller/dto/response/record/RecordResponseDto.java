@@ -1,8 +1,11 @@
 package com.darong.malgage_api.controller.dto.response.record;
 
-import com.darong.malgage_api.domain.record.InstallmentSchedule;
+import com.darong.malgage_api.domain.record.InstallmentPlan;
+import com.darong.malgage_api.domain.record.PaymentMethod;
 import com.darong.malgage_api.domain.record.Record;
+import com.darong.malgage_api.domain.record.RecordType;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.querydsl.core.annotations.QueryProjection;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -53,37 +56,79 @@ public class RecordResponseDto {
                 .emotionIcon(record.getEmotion().getIconName())
                 .date(record.getDate())
                 .type(record.getType().toString())
-                .paymentMethod(record.getPaymentMethod().toString())
+                .paymentMethod(record.getPaymentMethod() != null ? record.getPaymentMethod().toString() : null)
                 .isInstallment(record.getIsInstallment())
-                .installmentMonths(record.getInstallmentMonths())
+                .installmentMonths(record.getInstallmentMonths() != null ? record.getInstallmentMonths() : 0)
                 .memo(record.getMemo())
                 .build();
     }
 
 
+    /**
+     * ✅ QueryDSL constructor projection 용 (엔티티 없이 응답에 필요한 컬럼만 조회)
+     * - 할부 기록은 원 기록 값이므로 withInstallment 로 회차 값을 채워서 사용
+     */
+    @QueryProjection
+    public RecordResponseDto(
+            Long id,
+            int amount,
+            Long categoryId,
+            String categoryName,
+            String categoryIcon,
+            Long emotionId,
+            String emotionName,
+            String emotionIcon,
+            LocalDateTime date,
+            RecordType type,
+            PaymentMethod paymentMethod,
+            boolean isInstallment,
+            Integer installmentMonths,
+            String memo
+    ) {
+        this.id = id;
+        this.amount = amount;
+        this.categoryId = categoryId;
+        this.categoryName = categoryName;
+        this.categoryIcon = categoryIcon;
+        this.emotionId = emotionId;
+        this.emotionName = emotionName;
+        this.emotionIcon = emotionIcon;
+        this.date = date;
+        this.type = type.toString();
+        this.paymentMethod = paymentMethod != null ? paymentMethod.toString() : null;
+        this.isInstallment = isInstallment;
+        this.installmentMonths = installmentMonths != null ? installmentMonths : 0;
+        this.memo = memo;
+    }
+
     /**
      * 할부 회차를 위한 팩토리 메서드
      */
-    public static RecordResponseDto fromInstallment(InstallmentSchedule schedule) {
-        Record record = schedule.getRecord();
+    public static RecordResponseDto fromInstallment(Record record, InstallmentPlan.Installment installment) {
+        return from(record).withInstallment(installment);
+    }
 
+    /**
+     * 원 할부 기록 행 → 회차 행 (날짜는 회차 납부일)
+     */
+    public RecordResponseDto withInstallment(InstallmentPlan.Installment installment) {
         return RecordResponseDto.builder()
-                .id(record.getId())
-                .amount(record.getAmount())
-                .categoryId(record.getCategory().getId())
-                .categoryName(record.getCategory().getName())
-                .categoryIcon(record.getCategory().getIconName())
-                .emotionId(record.getEmotion().getId())
-                .emotionName(record.getEmotion().getName())
-                .emotionIcon(record.getEmotion().getIconName())
-                .date(schedule.getScheduledDate()) // ❗️중요: 회차 납부일
-                .type(record.getType().toString())
-                .paymentMethod(record.getPaymentMethod().toString())
+                .id(id)
+                .amount(amount)
+                .categoryId(categoryId)
+                .categoryName(categoryName)
+                .categoryIcon(categoryIcon)
+                .emotionId(emotionId)
+                .emotionName(emotionName)
+                .emotionIcon(emotionIcon)
+                .date(installment.scheduledDate()) // ❗️중요: 회차 납부일
+                .type(type)
+                .paymentMethod(paymentMethod)
                 .isInstallment(true)
-                .installmentMonths(record.getInstallmentMonths())
-                .memo(record.getMemo())
-                .monthlyAmount(schedule.getMonthlyAmount())
-                .installmentProgress(schedule.getInstallmentIndex() + "/" + record.getInstallmentMonths())
+                .installmentMonths(installmentMonths)
+                .memo(memo)
+                .monthlyAmount(installment.monthlyAmount())
+                .installmentProgress(installment.index() + "/" + installmentMonths)
                 .build();
     }
 }
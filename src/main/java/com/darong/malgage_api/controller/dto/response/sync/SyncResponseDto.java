@@ -0,0 +1,36 @@
+package com.darong.malgage_api.controller.dto.response.sync;
+
+import com.darong.malgage_api.controller.dto.response.category.CategoryResponseDto;
+import com.darong.malgage_api.controller.dto.response.emotion.EmotionResponseDto;
+import com.darong.malgage_api.controller.dto.response.record.RecordResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 증분 동기화 응답
+ * - 다음 요청은 nextToken 을 since 로 그대로 넘김
+ * - hasMore = true 면 같은 동기화의 다음 페이지가 있으므로 바로 nextToken 으로 이어서 요청
+ * - fullResync = true 면 로컬 저장소를 비우고 이 응답(과 이어지는 페이지)으로 다시 채움 (첫 동기화 / 토큰 만료, 첫 페이지에만 true)
+ * - 같은 변경이 두 번 올 수 있으므로 클라이언트는 id 기준 upsert
+ * - 기록의 카테고리/감정 이름·아이콘은 응답 시점 값이라, 이름만 바뀐 경우 기록은 다시 내려가지 않음
+ *   → categories / emotions 가 오면 로컬 기록의 이름·아이콘을 categoryId / emotionId 로 다시 매칭해서 갱신
+ */
+@Getter
+@AllArgsConstructor
+public class SyncResponseDto {
+    private String nextToken;
+    private boolean fullResync;
+    private boolean hasMore;
+
+    private List<RecordResponseDto> records;        // 생성/수정된 기록 (할부는 원 기록 값)
+    private List<RecordResponseDto> installments;   // 위 할부 기록의 전체 회차 (기록 id 기준으로 교체)
+    private List<Long> deletedRecordIds;
+
+    private List<CategoryResponseDto> categories;   // 바뀐 게 있으면 전체 목록, 없으면 null (첫 페이지에만)
+    private List<Long> deletedCategoryIds;
+
+    private List<EmotionResponseDto> emotions;      // 바뀐 게 있으면 전체 목록, 없으면 null (첫 페이지에만)
+    private List<Long> deletedEmotionIds;
+}
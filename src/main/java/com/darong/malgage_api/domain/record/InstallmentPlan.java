@@ -0,0 +1,118 @@
+package com.darong.malgage_api.domain.record;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 할부 회차 계산 (저장하지 않고 기록 값으로 계산)
+ * - 회차 k(0부터)의 납부일: 결제일 + k개월, 해당 월에 없는 일자는 말일로 보정, 시간은 결제 시각 유지
+ * - 월 납부금: 총액 / 개월 수 (나머지는 버림)
+ * - 회차 k 는 항상 (결제월 + k) 에 속하므로 조회 구간에 걸리는 회차 범위를 월 차이로 바로 구할 수 있음
+ */
+public final class InstallmentPlan {
+
+    /**
+     * 할부 회차 한 건
+     * @param index 1부터 시작하는 회차 번호
+     */
+    public record Installment(int index, LocalDateTime scheduledDate, int monthlyAmount) {}
+
+    private final LocalDateTime baseDate;
+    private final int months;
+    private final int monthlyAmount;
+
+    private InstallmentPlan(LocalDateTime baseDate, int amount, int months) {
+        this.baseDate = baseDate;
+        this.months = months;
+        this.monthlyAmount = amount / months;
+    }
+
+    /**
+     * @return 개월 수가 1 미만이면 null (회차 없음)
+     */
+    public static InstallmentPlan of(LocalDateTime date, Integer amount, Integer months) {
+        if (date == null || amount == null || months == null || months <= 0) {
+            return null;
+        }
+        return new InstallmentPlan(date, amount, months);
+    }
+
+    /**
+     * @return 할부 기록이 아니거나 개월 수가 없으면 null
+     */
+    public static InstallmentPlan of(Record record) {
+        if (!record.hasInstallment()) {
+            return null;
+        }
+        return of(record.getDate(), record.getAmount(), record.getInstallmentMonths());
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    public int getMonthlyAmount() {
+        return monthlyAmount;
+    }
+
+    /**
+     * 마지막 회차 납부일
+     */
+    public LocalDateTime lastDate() {
+        return dateOf(months - 1);
+    }
+
+    /**
+     * 전체 회차
+     */
+    public List<Installment> all() {
+        List<Installment> result = new ArrayList<>(months);
+        for (int k = 0; k < months; k++) {
+            result.add(installment(k));
+        }
+        return result;
+    }
+
+    /**
+     * 구간 [from, to] 에 납부일이 속한 회차 (납부일 오름차순)
+     * - null 이면 해당 방향 제한 없음
+     */
+    public List<Installment> between(LocalDateTime from, LocalDateTime to) {
+        int first = from == null ? 0 : Math.max(0, monthOffset(from));
+        int last = to == null ? months - 1 : Math.min(months - 1, monthOffset(to));
+
+        List<Installment> result = new ArrayList<>(Math.max(last - first + 1, 0));
+        for (int k = first; k <= last; k++) {
+            LocalDateTime date = dateOf(k);
+            if ((from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to))) {
+                result.add(installment(k));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 회차 k(0부터)의 납부일
+     */
+    public LocalDateTime dateOf(int k) {
+        LocalDate base = baseDate.toLocalDate();
+        LocalDate target = base.plusMonths(k);
+        LocalDate corrected = target.withDayOfMonth(Math.min(base.getDayOfMonth(), target.lengthOfMonth()));
+        return corrected.atTime(baseDate.toLocalTime());
+    }
+
+    private Installment installment(int k) {
+        return new Installment(k + 1, dateOf(k), monthlyAmount);
+    }
+
+    /**
+     * 결제월 기준 몇 번째 달인지 (회차 k 는 결제월 + k 에 속함)
+     */
+    private int monthOffset(LocalDateTime date) {
+        return (int) ChronoUnit.MONTHS.between(YearMonth.from(baseDate), YearMonth.from(date));
+    }
+}
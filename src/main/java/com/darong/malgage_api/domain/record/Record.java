@@ -11,14 +11,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @Table(indexes = {
         @Index(name = "idx_record_user_date", columnList = "user_id, date"),
         @Index(name = "idx_record_user_category", columnList = "user_id, category_id"),
-        @Index(name = "idx_record_user_type", columnList = "user_id, type")
+        @Index(name = "idx_record_user_type", columnList = "user_id, type"),
+        @Index(name = "idx_record_user_installment_end", columnList = "user_id, is_installment, installment_end_date"),
+        @Index(name = "idx_record_user_updated", columnList = "user_id, updated_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -63,6 +63,13 @@ public class Record extends BaseTimeEntity {
     @Column(name = "installment_months")
     private Integer installmentMonths;
 
+    /**
+     * 마지막 할부 회차 납부일 (할부가 아니면 null)
+     * - 회차는 저장하지 않고 InstallmentPlan 으로 계산하며, 이 값은 조회 구간에 걸리는 할부 기록을 찾는 용도
+     */
+    @Column(name = "installment_end_date")
+    private LocalDateTime installmentEndDate;
+
     @Column(length = 500)
     private String memo;
 
@@ -73,9 +80,6 @@ public class Record extends BaseTimeEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @OneToMany(mappedBy = "record")
-    private List<InstallmentSchedule> installmentSchedules = new ArrayList<>();
-
 
     // ===== private 생성자 =====
     private Record(Integer amount, RecordType type, LocalDateTime date, Category category,
@@ -98,6 +102,7 @@ public class Record extends BaseTimeEntity {
         this.installmentMonths = installmentMonths;
         this.memo = memo;
         this.user = user;
+        refreshInstallmentEndDate();
     }
 
     // ===== 정적 팩토리 메서드 =====
@@ -151,7 +156,15 @@ public class Record extends BaseTimeEntity {
         if (memo != null) {
             this.memo = memo;
         }
+        refreshInstallmentEndDate();
+    }
 
+    /**
+     * 마지막 할부 회차 납부일 재계산 (결제일/금액/할부 여부/개월 수가 바뀔 때)
+     */
+    public void refreshInstallmentEndDate() {
+        InstallmentPlan plan = InstallmentPlan.of(this);
+        this.installmentEndDate = plan != null ? plan.lastDate() : null;
     }
 
     /**
@@ -0,0 +1,16 @@
+package com.darong.malgage_api.domain.record;
+
+import java.time.YearMonth;
+import java.util.Set;
+
+/**
+ * 기록 생성/수정/삭제 이벤트
+ * - months: 변경 전/후 기록(할부라면 모든 회차)이 걸친 월
+ * - 커밋 이후(AFTER_COMMIT) 캐시 무효화 등에 사용
+ */
+public record RecordChangedEvent(Long userId, Set<YearMonth> months) {
+
+    public RecordChangedEvent {
+        months = Set.copyOf(months);
+    }
+}
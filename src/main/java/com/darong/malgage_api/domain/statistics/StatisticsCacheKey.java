@@ -0,0 +1,20 @@
+package com.darong.malgage_api.domain.statistics;
+
+/**
+ * 통계 캐시 key
+ * - YEARLY 는 month 를 무시하므로 항상 null 로 정규화
+ */
+public record StatisticsCacheKey(Long userId, StatisticsPeriod period, int year, Integer month) {
+
+    public static StatisticsCacheKey of(Long userId, StatisticsPeriod period, int year, Integer month) {
+        return new StatisticsCacheKey(userId, period, year, period == StatisticsPeriod.YEARLY ? null : month);
+    }
+
+    public static StatisticsCacheKey monthly(Long userId, int year, int month) {
+        return new StatisticsCacheKey(userId, StatisticsPeriod.MONTHLY, year, month);
+    }
+
+    public static StatisticsCacheKey yearly(Long userId, int year) {
+        return new StatisticsCacheKey(userId, StatisticsPeriod.YEARLY, year, null);
+    }
+}
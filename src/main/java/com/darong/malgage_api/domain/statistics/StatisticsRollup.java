@@ -0,0 +1,87 @@
+package com.darong.malgage_api.domain.statistics;
+
+import com.darong.malgage_api.domain.record.PaymentMethod;
+import com.darong.malgage_api.domain.record.RecordType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 월간 통계 롤업
+ * - (user, 월, 타입, 카테고리, 감정, 결제수단, 할부여부) 단위로 금액 합계와 건수를 보관
+ * - 할부 기록은 회차 납부일(scheduledDate)이 속한 월에 월 납부금으로 분산 저장
+ * - Record 생성/수정/삭제 시 RecordService 트랜잭션 안에서 증감(delta)으로 갱신됨
+ *
+ * 카테고리/감정은 FK 없이 id만 보관 (감정 물리 삭제 시 롤업 행이 삭제를 막지 않도록)
+ */
+@Entity
+@Table(name = "statistics_monthly_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_rollup_key", columnNames = {
+                        "user_id", "stat_month", "type", "category_id", "emotion_id", "payment_method", "is_installment"
+                })
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StatisticsRollup {
+
+    /**
+     * 결제수단이 없는 기록용 값 (unique key 컬럼이 NULL이면 MySQL이 중복을 허용하므로 빈 문자열로 저장)
+     */
+    public static final String NO_PAYMENT_METHOD = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 집계 월 (yyyyMM, 예: 202507)
+     */
+    @Column(name = "stat_month", nullable = false)
+    private Integer statMonth;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RecordType type;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "emotion_id", nullable = false)
+    private Long emotionId;
+
+    @Column(name = "payment_method", nullable = false, length = 20)
+    private String paymentMethod;
+
+    @Column(name = "is_installment", nullable = false)
+    private Boolean isInstallment;
+
+    /**
+     * 금액 합계 (할부는 월 납부금 합계)
+     */
+    @Column(nullable = false)
+    private Long amount;
+
+    /**
+     * 건수 (일반 기록 수 + 할부 회차 수)
+     */
+    @Column(name = "record_count", nullable = false)
+    private Integer recordCount;
+
+    // ===== 유틸 =====
+
+    public static int toStatMonth(LocalDateTime dateTime) {
+        return dateTime.getYear() * 100 + dateTime.getMonthValue();
+    }
+
+    public static String toPaymentMethodKey(PaymentMethod paymentMethod) {
+        return paymentMethod == null ? NO_PAYMENT_METHOD : paymentMethod.name();
+    }
+}
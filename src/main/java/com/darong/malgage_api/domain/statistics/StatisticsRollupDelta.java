@@ -0,0 +1,104 @@
+package com.darong.malgage_api.domain.statistics;
+
+import com.darong.malgage_api.domain.record.InstallmentPlan;
+import com.darong.malgage_api.domain.record.Record;
+
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 하나의 쓰기 작업이 월간 롤업에 주는 증감분
+ * - 수정 시 "기존 상태 차감 + 새 상태 가산"을 같은 key끼리 상계하므로
+ *   실제로 값이 바뀐 롤업 행만 남음
+ * - key는 호출 시점의 Record 값으로 즉시 계산되므로, 수정 전 차감은 record.update() 이전에 호출해야 함
+ * - 상계 여부와 무관하게 기존/새 상태가 걸친 월은 touchedMonths 에 남음 (통계 캐시 무효화 범위)
+ */
+public class StatisticsRollupDelta {
+
+    private final Map<StatisticsRollupKey, Change> changes = new LinkedHashMap<>();
+    private final Set<YearMonth> touchedMonths = new TreeSet<>();
+
+    public static class Change {
+        private long amount;
+        private int count;
+
+        public long getAmount() { return amount; }
+
+        public int getCount() { return count; }
+
+        private boolean isEmpty() { return amount == 0 && count == 0; }
+    }
+
+    /**
+     * 기록(할부라면 계산된 전체 회차)의 기여분 가산
+     */
+    public StatisticsRollupDelta add(Record record) {
+        apply(record, 1);
+        return this;
+    }
+
+    /**
+     * 기록(할부라면 계산된 전체 회차)의 기여분 차감
+     */
+    public StatisticsRollupDelta subtract(Record record) {
+        apply(record, -1);
+        return this;
+    }
+
+    public Map<StatisticsRollupKey, Change> getChanges() {
+        return Collections.unmodifiableMap(changes);
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * 기존/새 상태가 걸친 모든 월 (금액이 상계되어도 메모 등 상세가 바뀌었을 수 있으므로 포함)
+     */
+    public Set<YearMonth> getTouchedMonths() {
+        return Collections.unmodifiableSet(touchedMonths);
+    }
+
+    private void apply(Record record, int sign) {
+        if (record.hasInstallment()) {
+            InstallmentPlan plan = InstallmentPlan.of(record);
+            if (plan == null) {
+                return;
+            }
+            for (InstallmentPlan.Installment installment : plan.all()) {
+                touchedMonths.add(YearMonth.from(installment.scheduledDate()));
+                merge(keyOf(record, StatisticsRollup.toStatMonth(installment.scheduledDate()), true),
+                        (long) sign * installment.monthlyAmount(), sign);
+            }
+        } else {
+            touchedMonths.add(YearMonth.from(record.getDate()));
+            merge(keyOf(record, StatisticsRollup.toStatMonth(record.getDate()), false),
+                    (long) sign * record.getAmount(), sign);
+        }
+    }
+
+    private void merge(StatisticsRollupKey key, long amount, int count) {
+        Change change = changes.computeIfAbsent(key, k -> new Change());
+        change.amount += amount;
+        change.count += count;
+        if (change.isEmpty()) {
+            changes.remove(key);
+        }
+    }
+
+    private StatisticsRollupKey keyOf(Record record, int statMonth, boolean installment) {
+        return new StatisticsRollupKey(
+                statMonth,
+                record.getType(),
+                record.getCategory().getId(),
+                record.getEmotion().getId(),
+                StatisticsRollup.toPaymentMethodKey(record.getPaymentMethod()),
+                installment
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.darong.malgage_api.domain.statistics;
+
+import com.darong.malgage_api.domain.record.RecordType;
+
+/**
+ * 월간 통계 롤업의 unique key
+ */
+public record StatisticsRollupKey(
+        int statMonth,
+        RecordType type,
+        Long categoryId,
+        Long emotionId,
+        String paymentMethod,
+        boolean installment
+) {}
@@ -0,0 +1,10 @@
+package com.darong.malgage_api.domain.sync;
+
+/**
+ * 동기화 삭제 기록(tombstone) 대상 종류
+ */
+public enum SyncEntityType {
+    RECORD,
+    CATEGORY,
+    EMOTION
+}
@@ -0,0 +1,61 @@
+package com.darong.malgage_api.domain.sync;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 동기화용 삭제 기록
+ * - 물리 삭제된 행은 updatedAt 으로 찾을 수 없으므로, 삭제 시점에 (사용자, 종류, id) 를 남김
+ * - 소프트 삭제(카테고리/감정)도 목록에서 사라지므로 함께 남김
+ * - 사용자/대상은 FK 없이 id만 보관 (대상 행은 이미 삭제됨)
+ * - RETENTION 이 지나면 정리됨 (SyncTombstonePurgeScheduler), 그보다 오래된 동기화 토큰은 전체 재동기화
+ */
+@Entity
+@Table(name = "sync_tombstone",
+        indexes = {
+                @Index(name = "idx_tombstone_user_deleted", columnList = "user_id, deleted_at"),
+                @Index(name = "idx_tombstone_deleted", columnList = "deleted_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncTombstone {
+
+    /**
+     * 삭제 기록 보관 기간
+     */
+    public static final Duration RETENTION = Duration.ofDays(90);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tombstone_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 10)
+    private SyncEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    private SyncTombstone(Long userId, SyncEntityType entityType, Long entityId) {
+        this.userId = userId;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public static SyncTombstone of(Long userId, SyncEntityType entityType, Long entityId) {
+        return new SyncTombstone(userId, entityType, entityId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.darong.malgage_api.domain.user;
+
+/**
+ * 사용자의 카테고리/감정 목록 변경 이벤트 (생성, 가시성 변경, 삭제)
+ * - 커밋 이후(AFTER_COMMIT) 프롬프트 캐시 버전 갱신 등에 사용
+ */
+public record UserCatalogChangedEvent(Long userId) {
+}
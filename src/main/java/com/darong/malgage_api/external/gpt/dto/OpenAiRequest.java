@@ -1,5 +1,6 @@
 package com.darong.malgage_api.external.gpt.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.AllArgsConstructor;
 
@@ -11,4 +12,18 @@ public class OpenAiRequest {
     private String model;
     private List<OpenAiMessage> messages;
     private double temperature;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stream;             // true 면 SSE 로 토큰 단위 응답
+
+    public OpenAiRequest(String model, List<OpenAiMessage> messages, double temperature) {
+        this(model, messages, temperature, null);
+    }
+
+    /**
+     * 같은 요청을 스트리밍 모드로
+     */
+    public OpenAiRequest streaming() {
+        return new OpenAiRequest(model, messages, temperature, true);
+    }
 }
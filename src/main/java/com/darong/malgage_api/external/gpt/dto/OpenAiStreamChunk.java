@@ -0,0 +1,34 @@
+package com.darong.malgage_api.external.gpt.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * stream: true 응답의 SSE data 한 건 (choices[0].delta.content 에 이어 붙일 텍스트가 담김)
+ */
+@Getter
+public class OpenAiStreamChunk {
+    private List<Choice> choices;
+
+    @Getter
+    public static class Choice {
+        private Delta delta;
+    }
+
+    @Getter
+    public static class Delta {
+        private String content;
+    }
+
+    /**
+     * 이번 chunk 의 텍스트 (없으면 빈 문자열)
+     */
+    public String contentOrEmpty() {
+        if (choices == null || choices.isEmpty() || choices.get(0).getDelta() == null) {
+            return "";
+        }
+        String content = choices.get(0).getDelta().getContent();
+        return content == null ? "" : content;
+    }
+}
@@ -0,0 +1,11 @@
+package com.darong.malgage_api.external.gpt.exception;
+
+/**
+ * 로컬 유량 제어(토큰 버킷 대기 한도, 사용자별 동시 호출 수) 초과
+ * - OpenAI 가 보낸 429 가 아니므로 재시도하지 않음
+ */
+public class LocalRateLimitException extends RateLimitException {
+    public LocalRateLimitException(String message) {
+        super(message);
+    }
+}
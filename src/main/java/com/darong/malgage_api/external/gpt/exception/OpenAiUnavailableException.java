@@ -0,0 +1,10 @@
+package com.darong.malgage_api.external.gpt.exception;
+
+/**
+ * 서킷 브레이커가 열려 있어 OpenAI 를 호출하지 않음 (장애 중 빠른 실패)
+ */
+public class OpenAiUnavailableException extends OpenAiApiException {
+    public OpenAiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,7 +1,21 @@
 package com.darong.malgage_api.external.gpt.exception;
 
+import java.time.Duration;
+
 public class RateLimitException extends OpenAiApiException {
+
+    private final Duration retryAfter; // 서버가 알려준 재시도 대기시간 (Retry-After, 없으면 null)
+
     public RateLimitException(String message) {
+        this(message, null);
+    }
+
+    public RateLimitException(String message, Duration retryAfter) {
         super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
     }
 }
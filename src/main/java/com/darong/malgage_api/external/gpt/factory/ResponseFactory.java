@@ -21,6 +21,18 @@ public class ResponseFactory {
                 .build();
     }
 
+    /**
+     * 분석할 문장이 없음 (null / 공백)
+     */
+    public static MultipleRecordAnalysisResponse createEmptyTextResponse() {
+        return MultipleRecordAnalysisResponse.builder()
+                .success(false)
+                .recordCount(0)
+                .records(List.of())
+                .errorMessage("분석할 문장을 입력해주세요.")
+                .build();
+    }
+
     public static MultipleRecordAnalysisResponse createRateLimitResponse() {
         RecordAnalysisResponse defaultRecord = createErrorRecord(
                 "요청 한도 초과",
@@ -35,6 +47,34 @@ public class ResponseFactory {
                 .build();
     }
 
+    /**
+     * OpenAI 장애로 간이 분석 결과를 대신 반환 (사용자 확인 필요)
+     * - degraded = true 로 실제 분석 결과와 구분
+     */
+    public static MultipleRecordAnalysisResponse createFallbackResponse(List<RecordAnalysisResponse> records) {
+        return MultipleRecordAnalysisResponse.builder()
+                .success(true)
+                .degraded(true)
+                .recordCount(records.size())
+                .records(records)
+                .errorMessage("AI 분석이 일시적으로 지연되어 간단 분석 결과를 보여드립니다. 내용을 확인해주세요.")
+                .build();
+    }
+
+    public static MultipleRecordAnalysisResponse createUnavailableResponse() {
+        RecordAnalysisResponse defaultRecord = createErrorRecord(
+                "분석 일시 중단",
+                "AI 분석을 일시적으로 사용할 수 없습니다."
+        );
+
+        return MultipleRecordAnalysisResponse.builder()
+                .success(false)
+                .recordCount(0)
+                .records(List.of(defaultRecord))
+                .errorMessage("AI 분석을 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.")
+                .build();
+    }
+
     // ✅ static 메서드로 변경 & 필드 구조 맞춤
     private static RecordAnalysisResponse createErrorRecord(String description, String errorMessage) {
         return RecordAnalysisResponse.builder()
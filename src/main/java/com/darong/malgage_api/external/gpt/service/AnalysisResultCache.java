@@ -0,0 +1,109 @@
+package com.darong.malgage_api.external.gpt.service;
+
+import com.darong.malgage_api.controller.dto.response.record.RecordAnalysisResponse;
+import com.darong.malgage_api.external.gpt.util.KoreanDateExpressions;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * GPT 분석 결과 캐시
+ * - key: (userId, 정규화된 발화, 카탈로그 버전) → 카테고리/감정 목록이 바뀌면 자동으로 miss
+ * - 저장 시점의 기준 날짜를 함께 보관하고, hit 시 오늘 날짜와의 차이만큼 date 를 이동
+ *   ("오늘", "어제" 같은 상대 날짜가 현재 기준으로 다시 계산되는 효과)
+ * - 날짜 이동으로 재현할 수 없는 표현(절대 날짜, 요일/주/달 기준 표현)이 있는 발화는 캐시하지 않음
+ * - 적중률 등 지표는 cache.* (name=gpt.analysis) 로 노출
+ */
+@Component
+@Slf4j
+public class AnalysisResultCache {
+
+    private static final String CACHE_NAME = "gpt.analysis";
+
+    // 정규화 시 제거할 공백/문장부호
+    private static final Pattern NOISE = Pattern.compile("[\\s.,!?~]+");
+
+    private final Cache<Key, Entry> cache = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofDays(7))
+            .recordStats()
+            .build();
+
+    private record Key(Long userId, String text, long catalogVersion) {}
+
+    private record Entry(LocalDate baseDate, List<RecordAnalysisResponse> records) {}
+
+    public AnalysisResultCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회
+     * @param baseDateTime 이번 요청의 기준시각 (hit 시 날짜를 이 기준으로 이동)
+     * @return 복사본 (호출 측에서 수정해도 캐시에 영향 없음)
+     */
+    public Optional<List<RecordAnalysisResponse>> get(Long userId, String text, long catalogVersion,
+                                                      LocalDateTime baseDateTime) {
+        if (!isCacheable(text)) {
+            return Optional.empty();
+        }
+
+        Entry entry = cache.getIfPresent(new Key(userId, normalize(text), catalogVersion));
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        long dayShift = ChronoUnit.DAYS.between(entry.baseDate(), baseDateTime.toLocalDate());
+        log.debug("GPT 분석 캐시 hit: userId={}, dayShift={}", userId, dayShift);
+        return Optional.of(entry.records().stream()
+                .map(record -> copyShifted(record, dayShift))
+                .toList());
+    }
+
+    /**
+     * 분석 결과 저장 (캐시 불가 발화는 무시)
+     */
+    public void put(Long userId, String text, long catalogVersion,
+                    LocalDateTime baseDateTime, List<RecordAnalysisResponse> records) {
+        if (!isCacheable(text) || records.isEmpty()) {
+            return;
+        }
+        List<RecordAnalysisResponse> copies = records.stream()
+                .map(record -> copyShifted(record, 0))
+                .toList();
+        cache.put(new Key(userId, normalize(text), catalogVersion), new Entry(baseDateTime.toLocalDate(), copies));
+    }
+
+    boolean isCacheable(String text) {
+        return text != null && !text.isBlank() && !KoreanDateExpressions.hasNonShiftableDate(text);
+    }
+
+    static String normalize(String text) {
+        return NOISE.matcher(text).replaceAll("").toLowerCase();
+    }
+
+    private static RecordAnalysisResponse copyShifted(RecordAnalysisResponse record, long dayShift) {
+        return RecordAnalysisResponse.builder()
+                .type(record.getType())
+                .amount(record.getAmount())
+                .memo(record.getMemo())
+                .categoryId(record.getCategoryId())
+                .paymentMethod(record.getPaymentMethod())
+                .emotionId(record.getEmotionId())
+                .isInstallment(record.getIsInstallment())
+                .installmentMonths(record.getInstallmentMonths())
+                .date(record.getDate() == null ? null : record.getDate().plusDays(dayShift))
+                .build();
+    }
+}
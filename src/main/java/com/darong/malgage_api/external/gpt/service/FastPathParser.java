@@ -0,0 +1,258 @@
+package com.darong.malgage_api.external.gpt.service;
+
+import com.darong.malgage_api.controller.dto.response.record.RecordAnalysisResponse;
+import com.darong.malgage_api.domain.record.PaymentMethod;
+import com.darong.malgage_api.external.gpt.util.KoreanDateExpressions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 단순 발화용 로컬 파서 (OpenAI 호출 생략)
+ * - 거래 1건 + "원"으로 끝나는 금액 1개 + 사용자 카테고리 이름 1개가 확실히 매칭될 때만 처리
+ *   예) "아메리카노 사천오백원 카페", "어제 택시 만 칠천원 교통"
+ * - 할부, 절대 날짜, 시간 표현, 애매한 금액/카테고리는 모두 empty → OpenAI 로 위임
+ * - 카테고리/감정 목록은 프롬프트와 같은 PromptCatalog 를 사용
+ */
+@Component
+@Slf4j
+public class FastPathParser {
+
+    // 숫자(아라비아/한글) 뒤에 "원"이 붙은 금액 표현 (예: 5,000원, 사천오백원, 만 칠천원, 1만2천원)
+    private static final Pattern AMOUNT = Pattern.compile(
+            "([0-9일이삼사오육칠팔구십백천만억][0-9,일이삼사오육칠팔구십백천만억\\s]*)원");
+
+    private static final Pattern INSTALLMENT = Pattern.compile("할부|개월|분할|일시불");
+
+    /**
+     * @param baseDateTime 상대 날짜 계산 기준시각
+     * @return 확신할 수 있을 때만 분석 결과
+     */
+    public Optional<RecordAnalysisResponse> tryParse(String text, PromptCatalog catalog, LocalDateTime baseDateTime) {
+        if (text == null || text.isBlank()
+                || INSTALLMENT.matcher(text).find()
+                || KoreanDateExpressions.hasNonShiftableDate(text)
+                || KoreanDateExpressions.hasTime(text)) {
+            return Optional.empty();
+        }
+
+        // 금액: 정확히 1개
+        Matcher amountMatcher = AMOUNT.matcher(text);
+        if (!amountMatcher.find()) {
+            return Optional.empty();
+        }
+        String amountText = amountMatcher.group();
+        Long amount = parseKoreanNumber(amountMatcher.group(1));
+        if (amount == null || amount <= 0 || amountMatcher.find()) {
+            return Optional.empty();
+        }
+
+        // 날짜: 상대 날짜 표현만 허용 (없으면 기준일)
+        OptionalInt dayOffset = KoreanDateExpressions.relativeDayOffset(text);
+        if (dayOffset.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // 카테고리: 이름("식비/외식" 같은 경우 각 키워드)이 발화에 포함된 카테고리가 정확히 1개
+        PromptCatalog.CategoryEntry category = matchSingleCategory(text, catalog);
+        if (category == null) {
+            return Optional.empty();
+        }
+
+        String type = category.type();
+        PaymentMethod paymentMethod = detectPaymentMethod(text);
+        if (paymentMethod == null) {
+            paymentMethod = "income".equals(type) ? PaymentMethod.TRANSFER : PaymentMethod.CREDIT_CARD;
+        }
+
+        String memo = buildMemo(text, amountText);
+
+        return Optional.of(RecordAnalysisResponse.builder()
+                .type(type)
+                .amount(amount)
+                .memo(memo.isEmpty() ? category.name() : memo)
+                .categoryId(category.id())
+                .paymentMethod(paymentMethod.name())
+                .emotionId(matchSingleEmotion(text, catalog))
+                .isInstallment(false)
+                .installmentMonths(0)
+                .date(baseDateTime.toLocalDate().plusDays(dayOffset.getAsInt()).atStartOfDay())
+                .build());
+    }
+
+    /**
+     * 대체 경로용 간이 분석 (OpenAI 를 쓸 수 없을 때)
+     * - 금액만 찾으면 결과를 만들고, 카테고리/날짜 등 확실하지 않은 값은 비워 둠 (사용자가 확인 후 수정)
+     * - 날짜는 상대 날짜 표현이 있으면 반영, 없으면 기준일
+     */
+    public Optional<RecordAnalysisResponse> parseDraft(String text, PromptCatalog catalog, LocalDateTime baseDateTime) {
+        if (text == null || text.isBlank()) {
+            return Optional.empty();
+        }
+
+        Matcher amountMatcher = AMOUNT.matcher(text);
+        if (!amountMatcher.find()) {
+            return Optional.empty();
+        }
+        String amountText = amountMatcher.group();
+        Long amount = parseKoreanNumber(amountMatcher.group(1));
+        if (amount == null || amount <= 0) {
+            return Optional.empty();
+        }
+
+        PromptCatalog.CategoryEntry category = matchSingleCategory(text, catalog);
+        String type = category != null ? category.type() : "expense";
+        PaymentMethod paymentMethod = detectPaymentMethod(text);
+        if (paymentMethod == null) {
+            paymentMethod = "income".equals(type) ? PaymentMethod.TRANSFER : PaymentMethod.CREDIT_CARD;
+        }
+        int dayOffset = KoreanDateExpressions.relativeDayOffset(text).orElse(0);
+        String memo = buildMemo(text, amountText);
+
+        return Optional.of(RecordAnalysisResponse.builder()
+                .type(type)
+                .amount(amount)
+                .memo(memo.isEmpty() && category != null ? category.name() : memo)
+                .categoryId(category != null ? category.id() : null)
+                .paymentMethod(paymentMethod.name())
+                .emotionId(matchSingleEmotion(text, catalog))
+                .isInstallment(false)
+                .installmentMonths(0)
+                .date(baseDateTime.toLocalDate().plusDays(dayOffset).atStartOfDay())
+                .draft(true)
+                .build());
+    }
+
+    /**
+     * 한글/아라비아 숫자 혼합 금액 해석
+     * - 예: "사천오백" → 4500, "만 칠천" → 17000, "1만2천" → 12000, "12,000" → 12000
+     * - 숫자가 단위 없이 연달아 나오는 등 해석이 애매하면 null
+     */
+    static Long parseKoreanNumber(String text) {
+        long total = 0;     // 만/억 단위로 확정된 값
+        long section = 0;   // 만 미만 구간 누적
+        long digit = -1;    // 아직 단위가 붙지 않은 숫자
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || Character.isWhitespace(c)) {
+                continue;
+            }
+
+            if (c >= '0' && c <= '9') {
+                if (digit >= 0) {
+                    return null;
+                }
+                long value = 0;
+                while (i < text.length() && (Character.isDigit(text.charAt(i)) || text.charAt(i) == ',')) {
+                    if (text.charAt(i) != ',') {
+                        value = value * 10 + (text.charAt(i) - '0');
+                    }
+                    i++;
+                }
+                i--;
+                digit = value;
+                continue;
+            }
+
+            int koreanDigit = "영일이삼사오육칠팔구".indexOf(c);
+            if (koreanDigit >= 0) {
+                if (digit >= 0) {
+                    return null;
+                }
+                digit = koreanDigit;
+                continue;
+            }
+
+            long smallUnit = switch (c) {
+                case '십' -> 10;
+                case '백' -> 100;
+                case '천' -> 1_000;
+                default -> 0;
+            };
+            if (smallUnit > 0) {
+                section += (digit < 0 ? 1 : digit) * smallUnit;
+                digit = -1;
+                continue;
+            }
+
+            long largeUnit = switch (c) {
+                case '만' -> 10_000;
+                case '억' -> 100_000_000;
+                default -> 0;
+            };
+            if (largeUnit > 0) {
+                section += Math.max(digit, 0);
+                total += (section == 0 ? 1 : section) * largeUnit;
+                section = 0;
+                digit = -1;
+                continue;
+            }
+
+            return null;
+        }
+
+        total += section + Math.max(digit, 0);
+        return total > 0 ? total : null;
+    }
+
+    private PromptCatalog.CategoryEntry matchSingleCategory(String text, PromptCatalog catalog) {
+        PromptCatalog.CategoryEntry matched = null;
+        for (PromptCatalog.CategoryEntry category : catalog.categories()) {
+            if (containsAnyKeyword(text, category.name())) {
+                if (matched != null && !matched.id().equals(category.id())) {
+                    return null; // 둘 이상 매칭 → 애매함
+                }
+                matched = category;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 감정은 보조 정보이므로 애매하거나 없으면 OpenAI 응답과 같이 0
+     */
+    private Long matchSingleEmotion(String text, PromptCatalog catalog) {
+        Set<Long> matched = new LinkedHashSet<>();
+        for (PromptCatalog.EmotionEntry emotion : catalog.emotions()) {
+            if (containsAnyKeyword(text, emotion.name())) {
+                matched.add(emotion.id());
+            }
+        }
+        return matched.size() == 1 ? matched.iterator().next() : 0L;
+    }
+
+    private boolean containsAnyKeyword(String text, String name) {
+        if (name == null) {
+            return false;
+        }
+        for (String keyword : name.split("/")) {
+            String trimmed = keyword.trim();
+            if (!trimmed.isEmpty() && text.contains(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private PaymentMethod detectPaymentMethod(String text) {
+        if (text.contains("체크")) return PaymentMethod.DEBIT_CARD;
+        if (text.contains("현금")) return PaymentMethod.CASH;
+        if (text.contains("이체") || text.contains("송금")) return PaymentMethod.TRANSFER;
+        if (text.contains("카드")) return PaymentMethod.CREDIT_CARD;
+        return null;
+    }
+
+    private String buildMemo(String text, String amountText) {
+        return KoreanDateExpressions.removeRelativeDays(text.replace(amountText, " "))
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+}
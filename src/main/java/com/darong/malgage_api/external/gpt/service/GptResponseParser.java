@@ -2,32 +2,73 @@ package com.darong.malgage_api.external.gpt.service;
 
 import com.darong.malgage_api.controller.dto.response.record.RecordAnalysisResponse;
 import com.darong.malgage_api.external.gpt.exception.GptResponseParsingException;
-import com.darong.malgage_api.external.gpt.util.JsonExtractor;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.function.BiConsumer;
+import java.io.IOException;
+import java.util.*;
 
+/**
+ * GPT 응답 파서
+ * - 응답 문자열에서 JSON 시작 위치('[' 또는 '{')만 찾고, 그 위치부터 토큰 스트림을 바로 DTO 로 바인딩
+ * - 트리 → 문자열 → 객체 왕복 없이, 미리 만들어 둔 ObjectReader 재사용
+ * - 앞쪽 설명 문구 / ```json 코드펜스, 루트가 닫힌 뒤의 텍스트는 무시
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class GptResponseParser {
 
     private final ObjectMapper objectMapper;
+    private final ObjectReader arrayReader;
+    private final ObjectReader recordReader;
+    private final ObjectReader indexedReader;
+    private final ObjectReader indexOnlyReader;
+
+    public GptResponseParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.arrayReader = objectMapper.readerFor(RecordAnalysisResponse[].class);
+        this.recordReader = objectMapper.readerFor(RecordAnalysisResponse.class);
+        this.indexedReader = objectMapper.readerFor(IndexedItem.class);
+        this.indexOnlyReader = objectMapper.readerFor(IndexOnly.class);
+    }
+
+    /**
+     * 스트리밍 응답용 증분 파서 (스트림마다 새로 생성, 바인딩은 이 파서의 recordReader 공유)
+     */
+    public StreamingRecordParser streamingParser() {
+        return new StreamingRecordParser(recordReader);
+    }
 
     public List<RecordAnalysisResponse> parseToRecords(String gptResponse) {
-        try {
-            String jsonOnly = new JsonExtractor(gptResponse).extract();
-            validateJson(jsonOnly);
+        if (gptResponse == null || gptResponse.isBlank()) {
+            throw new GptResponseParsingException("추출된 JSON이 비어있음");
+        }
 
-            JsonNode rootNode = objectMapper.readTree(jsonOnly);
-            return parseJsonNode(rootNode);
+        int start = indexOfRoot(gptResponse);
+        if (start < 0) {
+            throw new GptResponseParsingException("응답에서 JSON 구조를 찾을 수 없음: " + gptResponse);
+        }
+
+        char[] chars = gptResponse.toCharArray();
+        try (JsonParser parser = objectMapper.getFactory().createParser(chars, start, chars.length - start)) {
+            JsonToken root = parser.nextToken();
+            log.debug("GPT 응답 파싱 (root: {})", root);
+
+            if (root == JsonToken.START_ARRAY) {
+                RecordAnalysisResponse[] records = arrayReader.readValue(parser);
+                return records == null ? List.of() : Arrays.asList(records);
+            }
+            return List.of(recordReader.<RecordAnalysisResponse>readValue(parser));
 
         } catch (Exception e) {
             log.error("GPT 응답 파싱 중 오류 발생", e);
@@ -35,37 +76,128 @@ public class GptResponseParser {
         }
     }
 
-    private void validateJson(String json) {
-        if (json == null || json.trim().isEmpty()) {
+    /**
+     * 일괄 분석 응답 파싱 ("index" 필드로 발화별 분리)
+     * - 루트 배열을 토큰 스트림으로 따라가며 객체 하나씩 indexedReader 로 바인딩 (트리 모델 없음)
+     * - 객체 하나가 잘못돼도 나머지는 살림: 해당 발화만 failed 로 표시
+     * - index 가 없거나 범위를 벗어난 객체는 어느 발화 것인지 알 수 없으므로 버림
+     * @param size 발화 수 (index 는 0 ~ size-1)
+     */
+    public IndexedRecords parseIndexed(String gptResponse, int size) {
+        if (gptResponse == null || gptResponse.isBlank()) {
             throw new GptResponseParsingException("추출된 JSON이 비어있음");
         }
+        int start = indexOfRoot(gptResponse);
+        if (start < 0) {
+            throw new GptResponseParsingException("응답에서 JSON 구조를 찾을 수 없음: " + gptResponse);
+        }
+
+        Map<Integer, List<RecordAnalysisResponse>> records = new HashMap<>();
+        Set<Integer> failed = new HashSet<>();
+        char[] chars = gptResponse.toCharArray();
+        try (JsonParser parser = objectMapper.getFactory().createParser(chars, start, chars.length - start)) {
+            JsonToken root = parser.nextToken();
+            if (root == JsonToken.START_OBJECT) {
+                readIndexedItem(parser, size, records, failed);
+            } else {
+                JsonToken token;
+                while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                    if (token == JsonToken.START_OBJECT) {
+                        readIndexedItem(parser, size, records, failed);
+                    } else {
+                        parser.skipChildren(); // 객체가 아닌 원소는 무시
+                    }
+                }
+            }
+        } catch (Exception e) {
+            throw new GptResponseParsingException("응답 파싱 실패: " + gptResponse, e);
+        }
+        return new IndexedRecords(records, failed);
+    }
+
+    /**
+     * @param records 발화 번호별 기록
+     * @param failed  일부 항목 파싱에 실패한 발화 번호
+     */
+    public record IndexedRecords(Map<Integer, List<RecordAnalysisResponse>> records, Set<Integer> failed) {}
+
+    /**
+     * 일괄 분석 응답 항목 한 개: 발화 번호 + 같은 객체에 평평하게 들어 있는 기록 필드
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    static class IndexedItem {
+        private Integer index;
+
+        @JsonUnwrapped
+        private RecordAnalysisResponse record;
+    }
+
+    /**
+     * 기록 필드 바인딩에 실패한 항목에서 발화 번호만 다시 읽을 때
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class IndexOnly {
+        private Integer index;
     }
 
-    private List<RecordAnalysisResponse> parseJsonNode(JsonNode rootNode) throws JsonProcessingException {
-        if (rootNode.isArray()) {
-            return parseArrayNode(rootNode);
-        } else if (rootNode.isObject()) {
-            return List.of(parseObjectNode(rootNode));
+    /**
+     * 현재 위치(START_OBJECT)의 객체 하나를 버퍼에 담아 바인딩
+     * - 실패해도 버퍼에서 index 만 다시 읽어 해당 발화를 failed 로 표시
+     */
+    private void readIndexedItem(JsonParser parser, int size,
+                                 Map<Integer, List<RecordAnalysisResponse>> records, Set<Integer> failed) throws IOException {
+        TokenBuffer item = new TokenBuffer(parser);
+        item.copyCurrentStructure(parser);
+
+        IndexedItem indexed;
+        try {
+            indexed = indexedReader.readValue(item.asParser());
+        } catch (IOException e) {
+            Integer index = readIndexOnly(item);
+            if (isValidIndex(index, size)) {
+                log.warn("일괄 분석 항목 파싱 실패 (index={}): {}", index, e.getMessage());
+                failed.add(index);
+            } else {
+                log.warn("일괄 분석 응답에서 읽을 수 없는 항목: {}", e.getMessage());
+            }
+            return;
+        }
+
+        if (!isValidIndex(indexed.getIndex(), size) || indexed.getRecord() == null) {
+            log.warn("일괄 분석 응답에 발화 번호가 없는 항목 (index={})", indexed.getIndex());
+            return;
         }
-        throw new GptResponseParsingException("예상하지 못한 JSON 형태: " + rootNode.getNodeType());
+        records.computeIfAbsent(indexed.getIndex(), i -> new ArrayList<>()).add(indexed.getRecord());
     }
 
-    private List<RecordAnalysisResponse> parseArrayNode(JsonNode arrayNode) throws JsonProcessingException {
-        List<RecordAnalysisResponse> records = new ArrayList<>();
-        for (JsonNode node : arrayNode) {
-            records.add(parseObjectNode(node));
+    private Integer readIndexOnly(TokenBuffer item) {
+        try {
+            return indexOnlyReader.<IndexOnly>readValue(item.asParser()).getIndex();
+        } catch (IOException e) {
+            return null;
         }
-        return records;
     }
 
-    private RecordAnalysisResponse parseObjectNode(JsonNode node) throws JsonProcessingException {
-        return objectMapper.readValue(objectMapper.writeValueAsString(node), RecordAnalysisResponse.class);
+    private boolean isValidIndex(Integer index, int size) {
+        return index != null && index >= 0 && index < size;
     }
 
-    private void setNullIfMissing(JsonNode node, String field, BiConsumer<Long, Void> setter) {
-        if (!node.has(field) || node.get(field).isNull()) {
-            log.debug("{} 없음 → null 처리", field);
-            setter.accept(null, null);
+    /**
+     * 루트 JSON 시작 위치
+     * - 첫 '{' 보다 앞에 '[' 가 있으면 배열, 아니면 객체 (이전 JSON 부분 추출과 같은 기준)
+     */
+    private int indexOfRoot(String response) {
+        int arrayStart = response.indexOf('[');
+        int objectStart = response.indexOf('{');
+
+        if (arrayStart != -1 && (objectStart == -1 || arrayStart < objectStart)) {
+            return arrayStart;
         }
+        return objectStart;
     }
 }
@@ -1,5 +1,6 @@
 package com.darong.malgage_api.external.gpt.service;
 
+import com.darong.malgage_api.controller.dto.response.record.BatchAnalysisResponse;
 import com.darong.malgage_api.controller.dto.response.record.MultipleRecordAnalysisResponse;
 import com.darong.malgage_api.domain.user.User;
 import com.darong.malgage_api.external.gpt.dto.OpenAiMessage;
@@ -7,15 +8,28 @@ import com.darong.malgage_api.external.gpt.dto.OpenAiRequest;
 import com.darong.malgage_api.external.gpt.dto.OpenAiResponse;
 import com.darong.malgage_api.controller.dto.response.record.RecordAnalysisResponse;
 import com.darong.malgage_api.global.config.OpenAiConfig;
-import com.darong.malgage_api.global.constants.PromptConstants;
+import com.darong.malgage_api.external.gpt.exception.LocalRateLimitException;
 import com.darong.malgage_api.external.gpt.exception.OpenAiApiException;
+import com.darong.malgage_api.external.gpt.exception.OpenAiUnavailableException;
 import com.darong.malgage_api.external.gpt.exception.RateLimitException;
 import com.darong.malgage_api.external.gpt.factory.ResponseFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 
 @Service
 @RequiredArgsConstructor
@@ -26,26 +40,261 @@ public class GptService {
     private final GptResponseParser responseParser;
     private final OpenAiConfig config;
     private final PromptTemplateService promptTemplateService;
+    private final AnalysisResultCache analysisResultCache;
+    private final FastPathParser fastPathParser;
+    private final OpenAiRateLimiter rateLimiter;
 
-    public MultipleRecordAnalysisResponse extractRecordInfo(User user, String userText) {
+    // 진행 중인 OpenAI 분석 (사용자 + 정규화된 발화 + 카탈로그 버전 + 기준일)
+    private record InFlightKey(Long userId, String text, long catalogVersion, LocalDate baseDate) {}
+
+    private final ConcurrentMap<InFlightKey, Mono<List<RecordAnalysisResponse>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 자연어 → 가계부 기록 분석 (비동기)
+     * - 프롬프트 구성(DB 조회)은 호출 스레드에서 끝내고, OpenAI 호출/재시도 대기는 논블로킹으로 진행
+     * - 같은 발화의 이전 분석 결과가 있으면 OpenAI 호출 없이 반환 (AnalysisResultCache)
+     * - 단순한 발화는 로컬 파서로 처리 (FastPathParser), 확신이 없을 때만 OpenAI 호출
+     * - 같은 사용자의 같은 발화가 동시에 들어오면(더블탭, 앱 재시도) OpenAI 호출 1번을 공유
+     * - OpenAI 서킷이 열려 있으면 간이 분석 결과로 대체 (FastPathParser.parseDraft)
+     * - 실패 시에도 예외 대신 실패 응답으로 완료됨
+     */
+    public CompletableFuture<MultipleRecordAnalysisResponse> extractRecordInfo(User user, String userText) {
+        if (userText == null || userText.isBlank()) {
+            return CompletableFuture.completedFuture(ResponseFactory.createEmptyTextResponse());
+        }
+
+        LocalDateTime baseDateTime = LocalDateTime.now();
+        long catalogVersion = promptTemplateService.getCatalogVersion(user);
+
+        Optional<List<RecordAnalysisResponse>> cached =
+                analysisResultCache.get(user.getId(), userText, catalogVersion, baseDateTime);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(createSuccessResponse(cached.get()));
+        }
+
+        PromptCatalog catalog;
+        OpenAiRequest request;
+        try {
+            catalog = promptTemplateService.getCatalog(user);
+            Optional<RecordAnalysisResponse> fastPath = fastPathParser.tryParse(userText, catalog, baseDateTime);
+            if (fastPath.isPresent()) {
+                log.debug("로컬 파서로 처리: {}", userText);
+                return CompletableFuture.completedFuture(createSuccessResponse(List.of(fastPath.get())));
+            }
+
+            request = buildRequest(user, userText, baseDateTime);
+        } catch (Exception e) {
+            log.error("GPT 요청 생성 중 오류 발생", e);
+            return CompletableFuture.completedFuture(ResponseFactory.createDefaultResponse());
+        }
+
+        InFlightKey key = new InFlightKey(user.getId(), AnalysisResultCache.normalize(userText),
+                catalogVersion, baseDateTime.toLocalDate());
+        return sharedAnalysis(key, request, userText, baseDateTime)
+                .map(this::createSuccessResponse)
+                .onErrorResume(OpenAiUnavailableException.class, e -> {
+                    log.warn("OpenAI 서킷 열림 → 간이 분석으로 대체: {}", userText);
+                    return Mono.just(fallbackResponse(userText, catalog, baseDateTime));
+                })
+                .onErrorResume(RateLimitException.class, e -> {
+                    log.error("Rate limit 초과", e);
+                    return Mono.just(ResponseFactory.createRateLimitResponse());
+                })
+                .onErrorResume(e -> {
+                    log.error("GPT 분석 중 오류 발생", e);
+                    return Mono.just(ResponseFactory.createDefaultResponse());
+                })
+                .toFuture();
+    }
+
+    /**
+     * 자연어 → 가계부 기록 분석 (스트리밍)
+     * - OpenAI 응답을 stream 으로 받아, 기록 객체가 하나 완성될 때마다 바로 방출
+     * - 캐시 hit / 로컬 파서 처리 시에는 결과를 한 번에 방출
+     * - 실패는 에러 신호로 전달 (호출 측에서 SSE error 이벤트로 변환)
+     *   카탈로그 조회 등 준비 단계의 예외도 에러 신호가 되도록 구독 시점에 전부 실행
+     */
+    public Flux<RecordAnalysisResponse> streamRecordInfo(User user, String userText) {
+        return Flux.defer(() -> startStream(user, userText));
+    }
+
+    private Flux<RecordAnalysisResponse> startStream(User user, String userText) {
+        if (userText == null || userText.isBlank()) {
+            return Flux.error(new IllegalArgumentException("분석할 문장이 없습니다."));
+        }
+
+        LocalDateTime baseDateTime = LocalDateTime.now();
+        long catalogVersion = promptTemplateService.getCatalogVersion(user);
+
+        Optional<List<RecordAnalysisResponse>> cached =
+                analysisResultCache.get(user.getId(), userText, catalogVersion, baseDateTime);
+        if (cached.isPresent()) {
+            return Flux.fromIterable(cached.get());
+        }
+
+        PromptCatalog catalog = promptTemplateService.getCatalog(user);
+        Optional<RecordAnalysisResponse> fastPath = fastPathParser.tryParse(userText, catalog, baseDateTime);
+        if (fastPath.isPresent()) {
+            return Flux.just(fastPath.get());
+        }
+
+        OpenAiRequest request = buildRequest(user, userText, baseDateTime);
+
+        return Flux.defer(() -> {
+            if (!rateLimiter.tryAcquireUser(user.getId())) {
+                return Flux.error(new LocalRateLimitException("사용자별 동시 분석 한도 초과"));
+            }
+            StreamingRecordParser parser = responseParser.streamingParser();
+            List<RecordAnalysisResponse> collected = new ArrayList<>();
+
+            return apiClient.streamApi(request)
+                    .concatMapIterable(parser::feed)
+                    .doOnNext(collected::add)
+                    .concatWith(Mono.fromRunnable(parser::finish))
+                    .doOnComplete(() -> analysisResultCache.put(
+                            user.getId(), userText, catalogVersion, baseDateTime, collected))
+                    .doFinally(signal -> rateLimiter.releaseUser(user.getId()));
+        }).onErrorResume(OpenAiUnavailableException.class, e -> {
+            log.warn("OpenAI 서킷 열림 → 간이 분석으로 대체: {}", userText);
+            return Mono.justOrEmpty(fastPathParser.parseDraft(userText, catalog, baseDateTime))
+                    .switchIfEmpty(Mono.error(e));
+        });
+    }
+
+    /**
+     * 여러 발화 일괄 분석 (OpenAI 호출 1번)
+     * - 캐시 hit / 로컬 파서로 처리되는 발화는 먼저 채우고, 나머지만 "[번호] 문장" 으로 묶어 한 번에 요청
+     * - 응답의 "index" 로 발화별 결과를 나누고, 잘못된 항목이 있는 발화만 실패 처리 (나머지는 성공)
+     * - 호출 자체가 실패하면 OpenAI 로 보낸 발화만 실패 응답
+     * - 발화 목록이 비었거나 너무 많으면 IllegalArgumentException 으로 실패한 future (호출 측에서 400 처리)
+     */
+    public CompletableFuture<BatchAnalysisResponse> extractRecordInfoBatch(User user, List<String> texts) {
+        if (texts == null || texts.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("분석할 문장이 없습니다."));
+        }
+        if (texts.size() > config.getMaxBatchSize()) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(
+                    "한 번에 분석할 수 있는 문장은 최대 " + config.getMaxBatchSize() + "개입니다."));
+        }
+
+        LocalDateTime baseDateTime = LocalDateTime.now();
+        long catalogVersion = promptTemplateService.getCatalogVersion(user);
+        MultipleRecordAnalysisResponse[] results = new MultipleRecordAnalysisResponse[texts.size()];
+        List<Integer> pending = new ArrayList<>(); // OpenAI 로 보낼 발화 위치
+
+        PromptCatalog catalog;
+        OpenAiRequest request;
         try {
-            OpenAiResponse response = callApi(user, userText);
-            List<RecordAnalysisResponse> records = responseParser.parseToRecords(extractContent(response));
-            return createSuccessResponse(records);
+            catalog = promptTemplateService.getCatalog(user);
+            for (int i = 0; i < texts.size(); i++) {
+                String text = texts.get(i);
+                if (text == null || text.isBlank()) {
+                    results[i] = ResponseFactory.createEmptyTextResponse();
+                    continue;
+                }
+
+                Optional<List<RecordAnalysisResponse>> cached =
+                        analysisResultCache.get(user.getId(), text, catalogVersion, baseDateTime);
+                Optional<RecordAnalysisResponse> fastPath = cached.isPresent()
+                        ? Optional.empty()
+                        : fastPathParser.tryParse(text, catalog, baseDateTime);
 
-        } catch (RateLimitException e) {
-            log.error("Rate limit 초과", e);
-            return ResponseFactory.createRateLimitResponse();
+                if (cached.isPresent()) {
+                    results[i] = createSuccessResponse(cached.get());
+                } else if (fastPath.isPresent()) {
+                    results[i] = createSuccessResponse(List.of(fastPath.get()));
+                } else {
+                    pending.add(i);
+                }
+            }
+            if (pending.isEmpty()) {
+                return CompletableFuture.completedFuture(toBatchResponse(results));
+            }
 
+            request = buildBatchRequest(user, texts, pending, baseDateTime);
         } catch (Exception e) {
-            log.error("GPT 분석 중 오류 발생", e);
-            return ResponseFactory.createDefaultResponse();
+            log.error("GPT 일괄 요청 생성 중 오류 발생", e);
+            Arrays.setAll(results, i -> results[i] != null ? results[i] : ResponseFactory.createDefaultResponse());
+            return CompletableFuture.completedFuture(toBatchResponse(results));
         }
+
+        log.info("일괄 분석: 요청 {}건 중 OpenAI {}건", texts.size(), pending.size());
+        return callWithUserLimit(user.getId(), request, content -> responseParser.parseIndexed(content, pending.size()))
+                .map(indexed -> {
+                    for (int local = 0; local < pending.size(); local++) {
+                        int index = pending.get(local);
+                        List<RecordAnalysisResponse> records = indexed.records().get(local);
+                        if (records == null || indexed.failed().contains(local)) {
+                            results[index] = ResponseFactory.createDefaultResponse();
+                            continue;
+                        }
+                        analysisResultCache.put(user.getId(), texts.get(index), catalogVersion, baseDateTime, records);
+                        results[index] = createSuccessResponse(records);
+                    }
+                    return toBatchResponse(results);
+                })
+                .onErrorResume(OpenAiUnavailableException.class, e -> {
+                    log.warn("OpenAI 서킷 열림 → 일괄 분석 간이 처리");
+                    fillPending(results, pending, i -> fallbackResponse(texts.get(i), catalog, baseDateTime));
+                    return Mono.just(toBatchResponse(results));
+                })
+                .onErrorResume(RateLimitException.class, e -> {
+                    log.error("Rate limit 초과", e);
+                    fillPending(results, pending, i -> ResponseFactory.createRateLimitResponse());
+                    return Mono.just(toBatchResponse(results));
+                })
+                .onErrorResume(e -> {
+                    log.error("GPT 일괄 분석 중 오류 발생", e);
+                    fillPending(results, pending, i -> ResponseFactory.createDefaultResponse());
+                    return Mono.just(toBatchResponse(results));
+                })
+                .toFuture();
+    }
+
+    /**
+     * 진행 중인 동일 요청과 OpenAI 호출 공유 (single-flight)
+     * - 첫 요청만 실제로 호출하고, 끝나기 전에 들어온 요청은 같은 결과를 받음
+     * - 호출이 끝나면(성공/실패) 바로 제거되므로 실패 결과가 남지 않음
+     */
+    private Mono<List<RecordAnalysisResponse>> sharedAnalysis(InFlightKey key, OpenAiRequest request,
+                                                              String userText, LocalDateTime baseDateTime) {
+        return inFlight.computeIfAbsent(key, k ->
+                callWithUserLimit(k.userId(), request, responseParser::parseToRecords)
+                        .doOnNext(records -> analysisResultCache.put(
+                                k.userId(), userText, k.catalogVersion(), baseDateTime, records))
+                        .doFinally(signal -> inFlight.remove(k))
+                        .cache());
     }
 
-    private OpenAiResponse callApi(User user, String userText) {
-        String systemPrompt = promptTemplateService.buildSystemPrompt(user);
-        OpenAiRequest request = new OpenAiRequest(
+    /**
+     * 사용자별 동시 호출 수 제한 후 OpenAI 호출
+     * @param parser 응답 content 파싱 (단건 / 일괄)
+     */
+    private <T> Mono<T> callWithUserLimit(Long userId, OpenAiRequest request, Function<String, T> parser) {
+        return Mono.defer(() -> {
+            if (!rateLimiter.tryAcquireUser(userId)) {
+                return Mono.error(new LocalRateLimitException("사용자별 동시 분석 한도 초과"));
+            }
+            return apiClient.callApi(request)
+                    .map(response -> parser.apply(extractContent(response)))
+                    .doFinally(signal -> rateLimiter.releaseUser(userId));
+        });
+    }
+
+    /**
+     * 서킷이 열려 있을 때의 대체 응답
+     * - 간이 분석(금액 위주)이 되면 그 결과, 아니면 일시 중단 응답 (어느 쪽이든 OpenAI 대기 없이 바로 반환)
+     */
+    private MultipleRecordAnalysisResponse fallbackResponse(String userText, PromptCatalog catalog,
+                                                            LocalDateTime baseDateTime) {
+        return fastPathParser.parseDraft(userText, catalog, baseDateTime)
+                .map(record -> ResponseFactory.createFallbackResponse(List.of(record)))
+                .orElseGet(ResponseFactory::createUnavailableResponse);
+    }
+
+    private OpenAiRequest buildRequest(User user, String userText, LocalDateTime baseDateTime) {
+        String systemPrompt = promptTemplateService.buildSystemPrompt(user, baseDateTime);
+        return new OpenAiRequest(
                 config.getModel(),
                 List.of(
                         new OpenAiMessage("system", systemPrompt),
@@ -53,7 +302,45 @@ public class GptService {
                 ),
                 config.getTemperature()
         );
-        return apiClient.callApi(request);
+    }
+
+    /**
+     * 일괄 요청: 시스템 프롬프트 + 일괄 안내, 발화는 "[번호] 문장" 한 줄씩 (번호는 0부터, OpenAI 로 보내는 발화 기준)
+     */
+    private OpenAiRequest buildBatchRequest(User user, List<String> texts, List<Integer> pending,
+                                            LocalDateTime baseDateTime) {
+        String systemPrompt = promptTemplateService.buildBatchSystemPrompt(user, baseDateTime);
+
+        StringBuilder userMessage = new StringBuilder();
+        for (int local = 0; local < pending.size(); local++) {
+            String text = texts.get(pending.get(local)).replaceAll("[\\r\\n]+", " ").trim();
+            userMessage.append('[').append(local).append("] ").append(text).append('\n');
+        }
+
+        return new OpenAiRequest(
+                config.getModel(),
+                List.of(
+                        new OpenAiMessage("system", systemPrompt),
+                        new OpenAiMessage("user", userMessage.toString())
+                ),
+                config.getTemperature()
+        );
+    }
+
+    private void fillPending(MultipleRecordAnalysisResponse[] results, List<Integer> pending,
+                             IntFunction<MultipleRecordAnalysisResponse> response) {
+        for (int index : pending) {
+            results[index] = response.apply(index);
+        }
+    }
+
+    private BatchAnalysisResponse toBatchResponse(MultipleRecordAnalysisResponse[] results) {
+        List<MultipleRecordAnalysisResponse> list = Arrays.asList(results);
+        return BatchAnalysisResponse.builder()
+                .requestedCount(list.size())
+                .succeededCount((int) list.stream().filter(MultipleRecordAnalysisResponse::isSuccess).count())
+                .results(list)
+                .build();
     }
 
     private String extractContent(OpenAiResponse response) {
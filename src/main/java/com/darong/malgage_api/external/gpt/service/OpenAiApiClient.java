@@ -3,121 +3,257 @@ package com.darong.malgage_api.external.gpt.service;
 import com.darong.malgage_api.global.config.OpenAiConfig;
 import com.darong.malgage_api.external.gpt.dto.OpenAiRequest;
 import com.darong.malgage_api.external.gpt.dto.OpenAiResponse;
+import com.darong.malgage_api.external.gpt.dto.OpenAiStreamChunk;
+import com.darong.malgage_api.external.gpt.exception.LocalRateLimitException;
 import com.darong.malgage_api.external.gpt.exception.OpenAiApiException;
+import com.darong.malgage_api.external.gpt.exception.OpenAiUnavailableException;
 import com.darong.malgage_api.external.gpt.exception.RateLimitException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * OpenAI API를 호출하기 위한 클라이언트 클래스
- * - API 호출 실패 시 자동으로 재시도
- * - Rate Limit (요청 한도 초과) 상황 처리
- * - 지수적 백오프 (exponential backoff) 적용
+ * - 논블로킹 호출: 응답을 Mono 로 반환하므로 대기 중 스레드를 점유하지 않음
+ * - API 호출 실패 시 자동으로 재시도 (Rate Limit 만)
+ * - 지수적 백오프 (exponential backoff) 적용, 대기는 Reactor 타이머로 처리 (Thread.sleep 없음)
+ * - 전역 토큰 버킷으로 분당 요청 수를 맞춰, 몰리는 요청은 429 대신 잠깐 대기 (OpenAiRateLimiter)
+ * - 서킷 브레이커로 장애 중에는 바로 실패, 재시도 총량은 재시도 예산으로 제한 (RetryBudget)
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class OpenAiApiClient {
 
-    private final WebClient.Builder webClientBuilder; // HTTP 클라이언트 빌더
-    private final OpenAiConfig config; // OpenAI API 설정 정보 (API 키, URL 등)
+    private final WebClient openAiWebClient; // OpenAI 전용 WebClient (WebClientConfig, 커넥션 풀 공유)
+    private final OpenAiConfig config; // OpenAI API 설정 정보 (재시도 횟수 등)
+    private final ObjectMapper objectMapper;
+    private final OpenAiRateLimiter rateLimiter; // 전역 토큰 버킷 (재시도도 토큰 1개씩 사용)
+    private final CircuitBreaker openAiCircuitBreaker; // 장애 시 빠른 실패 (OpenAiResilienceConfig)
+    private final RetryBudget retryBudget; // 재시도 총량 제한
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_STRING =
+            new ParameterizedTypeReference<>() {};
+    private static final String STREAM_DONE = "[DONE]"; // 스트림 종료 표시
 
     /**
      * OpenAI API를 호출하는 메인 메서드
      * @param request API 요청 데이터
-     * @return API 응답 데이터
+     * @return API 응답 데이터 (구독 시점에 호출)
+     */
+    public Mono<OpenAiResponse> callApi(OpenAiRequest request) {
+        return callWithRetry(openAiWebClient, request); // 재시도 로직과 함께 API 호출
+    }
+
+    /**
+     * 재시도 로직이 포함된 API 호출
+     * - 재시도 불가능한 에러는 OpenAiApiException 으로 감싸서 전달 (RateLimitException 은 그대로)
+     */
+    private Mono<OpenAiResponse> callWithRetry(WebClient webClient, OpenAiRequest request) {
+        return rateLimiter.acquire() // 토큰이 없으면 잠깐 대기
+                .then(Mono.defer(() -> webClient.post() // POST 요청
+                                .bodyValue(request) // 요청 데이터를 JSON으로 전송
+                                .retrieve() // 응답 받기
+                                .onStatus(status -> status.value() == 429, this::handleRateLimit) // 429 에러 시 특별 처리
+                                .bodyToMono(OpenAiResponse.class)) // 응답을 OpenAiResponse 객체로 변환
+                        .transformDeferred(CircuitBreakerOperator.of(openAiCircuitBreaker))) // 시도마다 서킷 집계
+                .retryWhen(retrySpec())
+                .doOnSubscribe(subscription -> retryBudget.deposit()) // 재시도와 무관하게 요청당 1번 적립
+                .onErrorMap(this::wrapError);
+    }
+
+    /**
+     * 스트리밍 호출 (stream: true)
+     * - OpenAI 가 보내는 SSE 의 data 를 받아 choices[0].delta.content 조각을 순서대로 방출
+     * - 429 는 데이터가 오기 전에 발생하므로 일반 호출과 같은 재시도 적용
+     * - 서킷은 첫 이벤트까지만 집계 (정상 스트림이 길게 이어져도 느린 호출로 세지 않음)
      */
-    public OpenAiResponse callApi(OpenAiRequest request) {
-        WebClient webClient = createWebClient(); // HTTP 클라이언트 생성
-        return callWithRetry(webClient, request); // 재시도 로직과 함께 API 호출
+    public Flux<String> streamApi(OpenAiRequest request) {
+        return rateLimiter.acquire()
+                .thenMany(Flux.defer(() -> openAiWebClient.post()
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                                .bodyValue(request.streaming())
+                                .retrieve()
+                                .onStatus(status -> status.value() == 429, this::handleRateLimit)
+                                .bodyToFlux(SSE_STRING))
+                        .transformDeferred(this::circuitUntilFirstEvent))
+                .retryWhen(retrySpec())
+                .doOnSubscribe(subscription -> retryBudget.deposit())
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !STREAM_DONE.equals(data))
+                .map(this::readChunkContent)
+                .filter(content -> !content.isEmpty())
+                .onErrorMap(this::wrapError);
     }
 
     /**
-     * OpenAI API 호출을 위한 WebClient 생성
-     * - 기본 URL과 인증 헤더를 설정
+     * 스트림용 서킷 집계: 첫 이벤트가 오면 그때까지의 시간으로 성공, 그 전에 실패하면 실패로 기록
+     * - CircuitBreakerOperator 는 스트림 전체 시간을 재므로 답변이 긴 정상 스트림도 느린 호출이 됨
+     * - 첫 이벤트 이후의 오류는 서킷에 반영하지 않음 (에러 신호로만 전달)
      */
-    private WebClient createWebClient() {
-        return webClientBuilder
-                .baseUrl(config.getBaseUrl()) // OpenAI API 기본 URL 설정
-                .defaultHeader("Authorization", "Bearer " + config.getApiKey()) // API 키를 Bearer 토큰으로 설정
-                .defaultHeader("Content-Type", "application/json") // JSON 형식으로 요청
-                .build();
+    private <T> Flux<T> circuitUntilFirstEvent(Flux<T> source) {
+        return Flux.defer(() -> {
+            if (!openAiCircuitBreaker.tryAcquirePermission()) {
+                return Flux.error(CallNotPermittedException.createCallNotPermittedException(openAiCircuitBreaker));
+            }
+            long start = openAiCircuitBreaker.getCurrentTimestamp();
+            AtomicBoolean recorded = new AtomicBoolean();
+            return source
+                    .doOnNext(event -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            openAiCircuitBreaker.onSuccess(elapsedSince(start), openAiCircuitBreaker.getTimestampUnit());
+                        }
+                    })
+                    .doOnComplete(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            openAiCircuitBreaker.onSuccess(elapsedSince(start), openAiCircuitBreaker.getTimestampUnit());
+                        }
+                    })
+                    .doOnError(e -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            openAiCircuitBreaker.onError(elapsedSince(start), openAiCircuitBreaker.getTimestampUnit(), e);
+                        }
+                    })
+                    .doOnCancel(() -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            openAiCircuitBreaker.releasePermission();
+                        }
+                    });
+        });
+    }
+
+    private long elapsedSince(long start) {
+        return openAiCircuitBreaker.getCurrentTimestamp() - start;
     }
 
     /**
-     * 재시도 로직이 포함된 API 호출 메서드
-     * - 실패 시 설정된 횟수만큼 재시도
-     * - 429 에러(Rate Limit) 발생 시 특별 처리
+     * 재시도 정책
+     * - 최초 1회 + 최대 (maxRetries - 1)회 재시도, 재시도 가능한 에러(429)만
+     * - 대기 시간: 서버가 Retry-After 를 주면 그 값, 없으면 기본 대기시간 * 2, * 4 ... (지터 포함)
+     * - Retry-After 가 maxRetryAfterMs 보다 길거나 재시도 예산이 바닥나면 기다리지 않고 바로 실패
      */
-    private OpenAiResponse callWithRetry(WebClient webClient, OpenAiRequest request) {
-        // 설정된 최대 재시도 횟수만큼 반복
-        for (int attempt = 1; attempt <= config.getMaxRetries(); attempt++) {
-            try {
-                log.info("API 호출 시도 {}/{}", attempt, config.getMaxRetries());
-
-                return webClient.post() // POST 요청
-                        .bodyValue(request) // 요청 데이터를 JSON으로 전송
-                        .retrieve() // 응답 받기
-                        .onStatus(status -> status.value() == 429, this::handleRateLimit) // 429 에러 시 특별 처리
-                        .bodyToMono(OpenAiResponse.class) // 응답을 OpenAiResponse 객체로 변환
-                        .block(); // 동기적으로 결과 대기 (비동기 -> 동기 변환)
-
-            } catch (Exception e) {
-                // 재시도 가능한 에러인지 확인
-                if (shouldRetry(e, attempt)) {
-                    waitBeforeRetry(attempt); // 대기 후 재시도
-                } else {
-                    // 재시도 불가능한 에러면 예외 던지기
-                    throw new OpenAiApiException("API 호출 실패", e);
-                }
+    private Retry retrySpec() {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            long attempt = signal.totalRetries();
+
+            if (!shouldRetry(failure) || attempt >= config.getMaxRetries() - 1) {
+                return Mono.<Long>error(failure);
+            }
+
+            Duration delay = retryDelay(failure, attempt);
+            if (delay.toMillis() > config.getMaxRetryAfterMs()) {
+                log.warn("Retry-After({}ms)가 너무 길어 재시도하지 않음", delay.toMillis());
+                return Mono.<Long>error(failure);
+            }
+            if (!retryBudget.tryWithdraw()) {
+                log.warn("재시도 예산 소진, 재시도하지 않음: {}", failure.getMessage());
+                return Mono.<Long>error(failure);
             }
+
+            log.info("API 재시도 {}/{} ({}ms 후): {}",
+                    attempt + 2, config.getMaxRetries(), delay.toMillis(), failure.getMessage());
+            return Mono.delay(delay);
+        }));
+    }
+
+    private Duration retryDelay(Throwable failure, long attempt) {
+        if (failure instanceof RateLimitException r && r.getRetryAfter() != null) {
+            return r.getRetryAfter();
         }
+        long backoffMs = config.getBaseRetryDelayMs() * (2L << attempt);
+        long jitterMs = (long) (backoffMs * 0.5 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(backoffMs + jitterMs);
+    }
+
+    /**
+     * 재시도 불가능한 에러는 OpenAiApiException 으로 감싸서 전달
+     * - 서킷이 열려 호출되지 않은 경우는 OpenAiUnavailableException (호출 측에서 대체 경로 사용)
+     */
+    private Throwable wrapError(Throwable e) {
+        if (e instanceof OpenAiApiException) {
+            return e;
+        }
+        if (e instanceof CallNotPermittedException) {
+            return new OpenAiUnavailableException("OpenAI 서킷 열림", e);
+        }
+        return new OpenAiApiException("API 호출 실패", e);
+    }
 
-        // 모든 재시도가 실패한 경우
-        throw new OpenAiApiException("모든 재시도 실패");
+    private String readChunkContent(String data) {
+        try {
+            return objectMapper.readValue(data, OpenAiStreamChunk.class).contentOrEmpty();
+        } catch (JsonProcessingException e) {
+            throw new OpenAiApiException("스트리밍 chunk 파싱 실패: " + data, e);
+        }
     }
 
     /**
      * 429 Too Many Requests (Rate Limit) 에러 처리
-     * - 로그를 남기고 RateLimitException 예외 발생
+     * - 로그를 남기고 RateLimitException 예외 발생 (Retry-After 헤더가 있으면 함께 전달)
      */
     private Mono<? extends Throwable> handleRateLimit(ClientResponse response) {
         log.warn("429 Too Many Requests 발생");
+        Duration retryAfter = parseRetryAfter(response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
         return response.bodyToMono(String.class) // 응답 본문을 문자열로 읽기
                 .doOnNext(body -> log.warn("Rate limit 응답: {}", body)) // 응답 내용 로깅
-                .then(Mono.error(new RateLimitException("Rate limit exceeded"))); // 예외 발생
+                .then(Mono.error(new RateLimitException("Rate limit exceeded", retryAfter))); // 예외 발생
     }
 
     /**
-     * 재시도 가능한 예외인지 판단
-     * - 최대 재시도 횟수를 넘지 않았고
-     * - 429 에러이거나 RateLimitException인 경우에만 재시도
+     * Retry-After 해석 (초 단위 숫자 또는 HTTP 날짜), 해석할 수 없으면 null
      */
-    private boolean shouldRetry(Exception e, int attempt) {
-        return attempt < config.getMaxRetries() &&
-                (e.getMessage().contains("429") || e instanceof RateLimitException);
+    private Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(Long.parseLong(value.trim()), 0));
+        } catch (NumberFormatException ignored) {
+            // HTTP 날짜 형식
+        }
+        try {
+            Duration until = Duration.between(Instant.now(),
+                    ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+            return until.isNegative() ? Duration.ZERO : until;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
     }
 
     /**
-     * 재시도 전 대기 (지수적 백오프)
-     * - 재시도 횟수가 늘어날수록 대기 시간이 기하급수적으로 증가
-     * - 1회차: 기본 대기시간, 2회차: 2배, 3회차: 4배, 4회차: 8배...
+     * 재시도 가능한 예외인지 판단
+     * - 429 에러이거나 RateLimitException인 경우에만 재시도
+     * - 로컬 유량 제어로 거절된 경우(LocalRateLimitException)는 재시도하지 않음
      */
-    private void waitBeforeRetry(int attempt) {
-        // 2의 attempt 제곱 * 기본 대기시간으로 계산
-        long waitTime = (long) Math.pow(2, attempt) * config.getBaseRetryDelayMs();
-        log.info("{}ms 대기 후 재시도", waitTime);
-
-        try {
-            Thread.sleep(waitTime); // 계산된 시간만큼 대기
-        } catch (InterruptedException ie) {
-            // 대기 중 인터럽트가 발생한 경우
-            Thread.currentThread().interrupt(); // 인터럽트 상태 복원
-            throw new OpenAiApiException("재시도 중 인터럽트 발생", ie);
+    private boolean shouldRetry(Throwable e) {
+        if (e instanceof LocalRateLimitException) {
+            return false;
         }
+        return e instanceof RateLimitException
+                || (e instanceof WebClientResponseException w && w.getStatusCode().value() == 429);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.darong.malgage_api.external.gpt.service;
+
+import com.darong.malgage_api.external.gpt.exception.LocalRateLimitException;
+import com.darong.malgage_api.global.config.OpenAiConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenAI 호출 유량 제어
+ * - 전역 토큰 버킷: 분당 요청 한도(requestsPerMinute)에 맞춰 토큰을 채우고, 호출(재시도 포함)마다 1개씩 사용
+ *   토큰이 없으면 다음 토큰이 채워질 때까지 짧게 대기 (maxQueueWaitMs 를 넘으면 바로 LocalRateLimitException)
+ * - 사용자별 동시 호출 제한: 한 사용자가 동시에 진행할 수 있는 OpenAI 분석 수 (maxConcurrentPerUser)
+ */
+@Component
+@Slf4j
+public class OpenAiRateLimiter {
+
+    private final OpenAiConfig config;
+    private final double permitsPerNano;
+    private final double capacity;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    private final ConcurrentMap<Long, AtomicInteger> userInFlight = new ConcurrentHashMap<>();
+
+    public OpenAiRateLimiter(OpenAiConfig config) {
+        this.config = config;
+        this.capacity = Math.max(config.getBurstCapacity(), 1);
+        this.permitsPerNano = config.getRequestsPerMinute() / (double) Duration.ofMinutes(1).toNanos();
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 전역 토큰 1개 획득
+     * - 바로 쓸 수 있으면 즉시 완료, 아니면 토큰이 채워지는 시점까지 Reactor 타이머로 대기
+     */
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            if (waitNanos < 0) {
+                log.warn("OpenAI 호출 대기열 초과");
+                return Mono.error(new LocalRateLimitException("OpenAI 호출 대기 한도 초과"));
+            }
+            if (waitNanos == 0) {
+                return Mono.empty();
+            }
+            return Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    /**
+     * 토큰 예약
+     * @return 대기해야 하는 시간(ns), 대기 한도를 넘으면 -1
+     */
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+
+        tokens -= 1;
+        if (tokens >= 0) {
+            return 0;
+        }
+
+        long waitNanos = (long) Math.ceil(-tokens / permitsPerNano);
+        if (waitNanos > Duration.ofMillis(config.getMaxQueueWaitMs()).toNanos()) {
+            tokens += 1; // 예약 취소
+            return -1;
+        }
+        return waitNanos;
+    }
+
+    /**
+     * 사용자별 동시 호출 슬롯 획득 (성공 시 반드시 releaseUser 호출)
+     */
+    public boolean tryAcquireUser(Long userId) {
+        AtomicInteger count = userInFlight.computeIfAbsent(userId, id -> new AtomicInteger());
+        if (count.incrementAndGet() > config.getMaxConcurrentPerUser()) {
+            count.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void releaseUser(Long userId) {
+        userInFlight.computeIfPresent(userId, (id, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+}
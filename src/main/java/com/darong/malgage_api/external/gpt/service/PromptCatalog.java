@@ -0,0 +1,20 @@
+package com.darong.malgage_api.external.gpt.service;
+
+import java.util.List;
+
+/**
+ * 사용자별 프롬프트 카탈로그 (카탈로그 버전별로 캐시됨)
+ * - categories / emotions: 사용자에게 보이는 카테고리/감정 목록 (정렬 순서 유지)
+ * - prompt: 위 목록으로 구성한 시스템 프롬프트 (기준시각 제외)
+ * - promptTokens: prompt 의 입력 토큰 수 (로컬 토크나이저 기준)
+ */
+public record PromptCatalog(List<CategoryEntry> categories, List<EmotionEntry> emotions, String prompt,
+                            int promptTokens) {
+
+    /**
+     * @param type "expense" | "income"
+     */
+    public record CategoryEntry(Long id, String name, String type) {}
+
+    public record EmotionEntry(Long id, String name) {}
+}
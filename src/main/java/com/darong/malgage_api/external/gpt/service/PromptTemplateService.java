@@ -8,12 +8,19 @@ import com.darong.malgage_api.domain.user.User;
 import com.darong.malgage_api.repository.category.CategoryQueryRepository;
 import com.darong.malgage_api.repository.emotion.EmotionQueryRepository;
 import com.darong.malgage_api.external.gpt.util.PromptTemplates;
+import com.darong.malgage_api.external.gpt.util.PromptVariant;
+import com.darong.malgage_api.global.config.OpenAiConfig;
+import com.darong.malgage_api.global.cache.UserVersionRegistry;
+import com.darong.malgage_api.global.cache.VersionScope;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
@@ -21,29 +28,115 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PromptTemplateService {
 
     private final CategoryQueryRepository categoryQueryRepository;
     private final EmotionQueryRepository emotionQueryRepository;
     private final ObjectMapper objectMapper;
+    private final UserVersionRegistry userVersionRegistry;
+    private final OpenAiConfig openAiConfig;
+    private final PromptTokenCounter promptTokenCounter;
 
-    @Cacheable(value = "prompt:system", key = "'user:' + #user.id", unless = "#result == null")
+    private static final DateTimeFormatter BASE_DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    /**
+     * 사용자별 카탈로그 캐시 (key: userId + 카탈로그 버전)
+     * - 카테고리/감정 생성, 가시성 변경, 삭제 시 버전이 올라가 다음 호출부터 새로 구성
+     */
+    private final Cache<CatalogKey, PromptCatalog> catalogs = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
+
+    private record CatalogKey(Long userId, long version) {}
+
+    /**
+     * 시스템 프롬프트 구성
+     * - 카테고리/감정/결제수단 부분은 카탈로그 버전별 캐시 사용 (쿼리 + 문자열 구성 생략)
+     * - 형태는 openai.prompt-variant (기본 VERBOSE)
+     * - 기준시각은 캐시하지 않고 호출 시점에 붙임
+     */
     public String buildSystemPrompt(User user) {
+        return buildSystemPrompt(user, LocalDateTime.now());
+    }
+
+    public String buildSystemPrompt(User user, LocalDateTime baseDateTime) {
+        return getCatalog(user).prompt()
+                + PromptTemplates.baseDateTimeLine(baseDateTime.format(BASE_DATE_TIME_FORMAT));
+    }
+
+    /**
+     * 일괄 분석용 시스템 프롬프트
+     * - 일괄 안내를 기준시각 앞에 넣어 기준시각이 항상 마지막 줄에 오도록 함 ("프롬프트 마지막 줄 참고")
+     */
+    public String buildBatchSystemPrompt(User user, LocalDateTime baseDateTime) {
+        return getCatalog(user).prompt()
+                + PromptTemplates.batchInstruction()
+                + PromptTemplates.baseDateTimeLine(baseDateTime.format(BASE_DATE_TIME_FORMAT));
+    }
+
+    /**
+     * 사용자 카탈로그 (프롬프트와 로컬 파서가 같은 목록을 공유)
+     */
+    public PromptCatalog getCatalog(User user) {
+        return catalogs.get(new CatalogKey(user.getId(), getCatalogVersion(user)), k -> buildCatalog(user));
+    }
+
+    /**
+     * 사용자 카탈로그(카테고리/감정 목록) 버전
+     */
+    public long getCatalogVersion(User user) {
+        return userVersionRegistry.current(VersionScope.CATALOG, user.getId());
+    }
+
+    private PromptCatalog buildCatalog(User user) {
+        List<PromptCatalog.CategoryEntry> categories = getAllVisibleCategories(user);
+        List<PromptCatalog.EmotionEntry> emotions = getAllVisibleEmotions(user);
+
+        PromptVariant variant = openAiConfig.getPromptVariant();
+        String prompt = variant == PromptVariant.VERBOSE
+                ? verbosePrompt(categories, emotions)
+                : compactPrompt(categories, emotions);
+
+        int tokens = promptTokenCounter.record(prompt, variant.name());
+        log.debug("시스템 프롬프트 구성: userId={}, variant={}, tokens={}", user.getId(), variant, tokens);
+        return new PromptCatalog(categories, emotions, prompt, tokens);
+    }
+
+    /**
+     * 압축 프롬프트: 카테고리는 타입별로 "id:이름" 나열, 감정도 "id:이름"
+     */
+    private String compactPrompt(List<PromptCatalog.CategoryEntry> categories, List<PromptCatalog.EmotionEntry> emotions) {
+        return PromptTemplates.compactSystemPrompt(
+                joinCategories(categories, "expense"),
+                joinCategories(categories, "income"),
+                emotions.stream().map(e -> e.id() + ":" + e.name()).collect(Collectors.joining(", ")),
+                String.join(", ", getPaymentMethods())
+        );
+    }
+
+    private String joinCategories(List<PromptCatalog.CategoryEntry> categories, String type) {
+        return categories.stream()
+                .filter(c -> type.equals(c.type()))
+                .map(c -> c.id() + ":" + c.name())
+                .collect(Collectors.joining(", "));
+    }
+
+    private String verbosePrompt(List<PromptCatalog.CategoryEntry> categories, List<PromptCatalog.EmotionEntry> emotions) {
         try {
-            String categoryJson = objectMapper.writeValueAsString(getAllVisibleCategories(user));
-            String emotionJson = objectMapper.writeValueAsString(getAllVisibleEmotions(user));
+            String categoryJson = objectMapper.writeValueAsString(categories);
+            String emotionJson = objectMapper.writeValueAsString(emotions);
             String paymentMethodsJson = objectMapper.writeValueAsString(getPaymentMethods());
-            String baseDateTime = LocalDateTime.now()
-                    .format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
 
-            return PromptTemplates.systemPrompt(categoryJson, emotionJson, paymentMethodsJson, baseDateTime);
+            return PromptTemplates.systemPrompt(categoryJson, emotionJson, paymentMethodsJson);
 
         } catch (JsonProcessingException e) {
             throw new RuntimeException("프롬프트 JSON 직렬화 실패", e);
         }
     }
 
-    private List<Map<String, Object>> getAllVisibleCategories(User user) {
+    private List<PromptCatalog.CategoryEntry> getAllVisibleCategories(User user) {
         List<CategoryResponseDto> expenseCats = categoryQueryRepository.findVisibleCategoriesByUserAndType(user, CategoryType.EXPENSE);
         List<CategoryResponseDto> incomeCats = categoryQueryRepository.findVisibleCategoriesByUserAndType(user, CategoryType.INCOME);
 
@@ -55,28 +148,17 @@ public class PromptTemplateService {
                 .thenComparing(CategoryResponseDto::getSortOrder));
 
         return all.stream()
-                .map(c -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("id", c.getId());
-                    map.put("name", c.getName());
-                    map.put("type", c.getType().name().toLowerCase());
-                    return map;
-                })
+                .map(c -> new PromptCatalog.CategoryEntry(c.getId(), c.getName(), c.getType().name().toLowerCase()))
                 .collect(Collectors.toList());
     }
 
-    private List<Map<String, Object>> getAllVisibleEmotions(User user) {
+    private List<PromptCatalog.EmotionEntry> getAllVisibleEmotions(User user) {
         List<EmotionResponseDto> emotions = emotionQueryRepository.findVisibleEmotionsByUser(user);
 
         emotions.sort(Comparator.comparing(EmotionResponseDto::getSortOrder));
 
         return emotions.stream()
-                .map(e -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("id", e.getId());
-                    map.put("name", e.getName());
-                    return map;
-                })
+                .map(e -> new PromptCatalog.EmotionEntry(e.getId(), e.getName()))
                 .collect(Collectors.toList());
     }
 
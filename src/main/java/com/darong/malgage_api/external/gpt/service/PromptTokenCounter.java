@@ -0,0 +1,48 @@
+package com.darong.malgage_api.external.gpt.service;
+
+import com.darong.malgage_api.global.config.OpenAiConfig;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingRegistry;
+import com.knuddels.jtokkit.api.EncodingType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프롬프트 토큰 수 측정 (로컬 토크나이저, OpenAI 호출 없음)
+ * - 설정된 모델의 인코딩을 사용하고, 모르는 모델이면 o200k_base
+ * - 사용자별 시스템 프롬프트 토큰 수를 gpt.prompt.tokens 분포로 기록 (프롬프트 형태별 태그)
+ */
+@Component
+public class PromptTokenCounter {
+
+    private final Encoding encoding;
+    private final MeterRegistry meterRegistry;
+
+    public PromptTokenCounter(OpenAiConfig config, MeterRegistry meterRegistry) {
+        EncodingRegistry registry = Encodings.newDefaultEncodingRegistry();
+        this.encoding = config.getModel() == null
+                ? registry.getEncoding(EncodingType.O200K_BASE)
+                : registry.getEncodingForModel(config.getModel())
+                        .orElseGet(() -> registry.getEncoding(EncodingType.O200K_BASE));
+        this.meterRegistry = meterRegistry;
+    }
+
+    public int count(String text) {
+        return text == null ? 0 : encoding.countTokens(text);
+    }
+
+    /**
+     * 시스템 프롬프트 토큰 수 측정 + 기록
+     */
+    public int record(String prompt, String variant) {
+        int tokens = count(prompt);
+        DistributionSummary.builder("gpt.prompt.tokens")
+                .description("사용자별 시스템 프롬프트 입력 토큰 수")
+                .tag("variant", variant)
+                .register(meterRegistry)
+                .record(tokens);
+        return tokens;
+    }
+}
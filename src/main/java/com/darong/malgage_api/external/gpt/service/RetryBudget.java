@@ -0,0 +1,53 @@
+package com.darong.malgage_api.external.gpt.service;
+
+import com.darong.malgage_api.global.config.OpenAiConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재시도 예산
+ * - 요청 1건마다 retryBudgetRatio 만큼 적립, 재시도 1회마다 1 차감 → 재시도 총량이 전체 트래픽의 일정 비율을 넘지 않음
+ * - 트래픽이 적을 때도 재시도가 가능하도록 초당 retryBudgetMinPerSecond 만큼 추가 적립
+ * - 적립 한도(retryBudgetMaxBalance)가 있어, 한가할 때 쌓인 예산을 장애 시 한꺼번에 쓰지 않음
+ */
+@Component
+public class RetryBudget {
+
+    private final OpenAiConfig config;
+
+    private double balance;
+    private long lastRefillNanos;
+
+    public RetryBudget(OpenAiConfig config) {
+        this.config = config;
+        this.balance = config.getRetryBudgetMinPerSecond();
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 요청 1건 적립
+     */
+    public synchronized void deposit() {
+        refill();
+        balance = Math.min(config.getRetryBudgetMaxBalance(), balance + config.getRetryBudgetRatio());
+    }
+
+    /**
+     * 재시도 1회 차감
+     * @return 예산이 남아 있으면 true
+     */
+    public synchronized boolean tryWithdraw() {
+        refill();
+        if (balance < 1) {
+            return false;
+        }
+        balance -= 1;
+        return true;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        double seconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        balance = Math.min(config.getRetryBudgetMaxBalance(), balance + seconds * config.getRetryBudgetMinPerSecond());
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,127 @@
+package com.darong.malgage_api.external.gpt.service;
+
+import com.darong.malgage_api.controller.dto.response.record.RecordAnalysisResponse;
+import com.darong.malgage_api.external.gpt.exception.GptResponseParsingException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GPT 스트리밍 응답용 증분 JSON 파서 (스트림 1개당 인스턴스 1개, thread-safe 아님)
+ * - 텍스트 조각을 받을 때마다 Jackson non-blocking 파서에 넘기고,
+ *   배열 안의 객체 하나가 닫히는 즉시 RecordAnalysisResponse 로 변환해서 반환
+ * - 루트 '[' 또는 '{' 이전의 텍스트(```json 등)와 루트가 닫힌 이후의 텍스트는 무시
+ * - 기록 객체 바인딩은 GptResponseParser 가 미리 만들어 둔 ObjectReader 재사용 (GptResponseParser.streamingParser)
+ */
+public class StreamingRecordParser {
+
+    private final ObjectReader recordReader;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean rootStarted;
+    private boolean rootClosed;
+    private int depth;
+    private int recordDepth = -1;       // 기록 객체가 시작되는 깊이 (루트 배열: 1, 루트 객체: 0)
+    private TokenBuffer current;        // 현재 읽는 중인 기록 객체
+    private int emitted;
+
+    StreamingRecordParser(ObjectReader recordReader) {
+        this.recordReader = recordReader;
+        try {
+            this.parser = recordReader.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new GptResponseParsingException("스트리밍 파서 생성 실패", e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 텍스트 조각 입력
+     * @return 이번 입력으로 완성된 기록 (없으면 빈 목록)
+     */
+    public List<RecordAnalysisResponse> feed(String content) {
+        if (rootClosed || content == null || content.isEmpty()) {
+            return List.of();
+        }
+
+        String json = content;
+        if (!rootStarted) {
+            int start = indexOfRootStart(content);
+            if (start < 0) {
+                return List.of();
+            }
+            rootStarted = true;
+            json = content.substring(start);
+        }
+
+        try {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            feeder.feedInput(bytes, 0, bytes.length);
+            return drain();
+        } catch (IOException e) {
+            throw new GptResponseParsingException("스트리밍 응답 파싱 실패", e);
+        }
+    }
+
+    /**
+     * 스트림 종료 처리
+     * - 루트가 닫히지 않았으면 (finish_reason=length, 연결 끊김 등) 이미 방출한 기록이 있어도 실패
+     *   → 잘린 결과가 완료로 처리되어 분석 캐시에 저장되지 않도록 함
+     */
+    public void finish() {
+        feeder.endOfInput();
+        if (!rootClosed) {
+            throw new GptResponseParsingException(emitted == 0
+                    ? "스트리밍 응답에서 JSON 을 찾을 수 없음"
+                    : "스트리밍 응답이 중간에 끊김 (완성된 기록 " + emitted + "건 이후)");
+        }
+    }
+
+    private List<RecordAnalysisResponse> drain() throws IOException {
+        List<RecordAnalysisResponse> completed = new ArrayList<>();
+        JsonToken token;
+        while (!rootClosed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (recordDepth < 0) {
+                recordDepth = token == JsonToken.START_ARRAY ? 1 : 0;
+            }
+
+            if (token == JsonToken.START_OBJECT && depth == recordDepth && current == null) {
+                current = new TokenBuffer(recordReader, false);
+            }
+            if (current != null) {
+                current.copyCurrentEvent(parser);
+            }
+
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+                if (current != null && depth == recordDepth) {
+                    completed.add(recordReader.<RecordAnalysisResponse>readValue(current.asParser()));
+                    current = null;
+                    emitted++;
+                }
+                if (depth == 0) {
+                    rootClosed = true;
+                }
+            }
+        }
+        return completed;
+    }
+
+    private int indexOfRootStart(String content) {
+        int array = content.indexOf('[');
+        int object = content.indexOf('{');
+        if (array < 0) return object;
+        if (object < 0) return array;
+        return Math.min(array, object);
+    }
+}
@@ -0,0 +1,90 @@
+package com.darong.malgage_api.external.gpt.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 발화 속 한국어 날짜/시간 표현 판별
+ * - 분석 결과 캐시와 로컬 파서가 "날짜 이동만으로 처리 가능한 발화"인지 같은 기준으로 판단
+ */
+public class KoreanDateExpressions {
+
+    private KoreanDateExpressions() {}
+
+    /**
+     * 일 단위 이동만으로는 다시 계산할 수 없는 날짜 표현
+     * - 숫자 날짜 (8월 3일, 2025년, 8/3, 2025-08-03)
+     * - 한글 월/일 (팔월, 삼일 - 단, 십일만원 같은 금액은 제외)
+     * - 요일/주/달/연도 기준 상대 표현, 여러 날 전/후 표현
+     */
+    private static final Pattern NON_SHIFTABLE_DATE = Pattern.compile(
+            "\\d+\\s*(년|월|일)"
+                    + "|\\d{1,4}\\s*[-./]\\s*\\d{1,2}"
+                    + "|(일|이|삼|사|오|유|육|칠|팔|구|시|십)월"
+                    + "|[일이삼사오육칠팔구십]+일(?![만천백시])"
+                    + "|요일|주말|일주일|(이번|지난|저번|다음|담)\\s*(주|달)|한\\s*달|작년|올해|내년"
+                    + "|사흘|나흘|닷새|엿새|이레|여드레|열흘|보름"
+    );
+
+    /**
+     * 시간 표현 (오전/오후, n시 n분, 아침/점심/저녁 등)
+     */
+    private static final Pattern TIME = Pattern.compile(
+            "\\d+\\s*(시|분)|[한두세네섯곱덟홉열]\\s*시|오전|오후|아침|점심|저녁|새벽|밤"
+    );
+
+    /**
+     * 기준일 대비 일수가 정해진 상대 날짜 (긴 표현부터 검사)
+     */
+    private static final Map<String, Integer> RELATIVE_DAYS = new LinkedHashMap<>();
+
+    static {
+        RELATIVE_DAYS.put("그저께", -2);
+        RELATIVE_DAYS.put("그제", -2);
+        RELATIVE_DAYS.put("어제", -1);
+        RELATIVE_DAYS.put("오늘", 0);
+        RELATIVE_DAYS.put("내일", 1);
+        RELATIVE_DAYS.put("모레", 2);
+    }
+
+    private static final Pattern RELATIVE_DAY = Pattern.compile(String.join("|", RELATIVE_DAYS.keySet()));
+
+    /**
+     * 기준일을 옮기는 것만으로 다시 계산할 수 없는 날짜 표현이 있는지
+     */
+    public static boolean hasNonShiftableDate(String text) {
+        return NON_SHIFTABLE_DATE.matcher(text).find();
+    }
+
+    public static boolean hasTime(String text) {
+        return TIME.matcher(text).find();
+    }
+
+    /**
+     * 상대 날짜 표현의 일수
+     * - 표현이 없으면 0 (기준일)
+     * - 서로 다른 표현이 섞여 있으면 판단할 수 없으므로 empty
+     */
+    public static OptionalInt relativeDayOffset(String text) {
+        Matcher matcher = RELATIVE_DAY.matcher(text);
+        Integer offset = null;
+        while (matcher.find()) {
+            int found = RELATIVE_DAYS.get(matcher.group());
+            if (offset != null && offset != found) {
+                return OptionalInt.empty();
+            }
+            offset = found;
+        }
+        return offset == null ? OptionalInt.of(0) : OptionalInt.of(offset);
+    }
+
+    /**
+     * 상대 날짜 표현 제거 (메모 구성용)
+     */
+    public static String removeRelativeDays(String text) {
+        return RELATIVE_DAY.matcher(text).replaceAll(" ");
+    }
+}
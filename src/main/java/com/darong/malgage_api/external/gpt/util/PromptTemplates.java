@@ -7,7 +7,12 @@ public class PromptTemplates {
 
     private PromptTemplates() {}
 
-    public static String systemPrompt(String categoryJson, String emotionJson, String paymentMethodsJson, String baseDateTime) {
+    /**
+     * 사용자별 시스템 프롬프트 (기준시각 제외, PromptVariant.VERBOSE)
+     * - 카테고리/감정 목록이 바뀌기 전까지 동일하므로 캐시 가능
+     * - 기준시각은 호출 시점에 baseDateTimeLine() 으로 뒤에 붙임
+     */
+    public static String systemPrompt(String categoryJson, String emotionJson, String paymentMethodsJson) {
 
         return """
             한국어 지출/수입 문장을 JSON 배열로 변환합니다. 여러 거래가 있으면 각 거래를 분리합니다.
@@ -28,7 +33,7 @@ public class PromptTemplates {
             카테고리 목록(JSON): %s
             감정 목록(JSON): %s
             사용 가능한 결제수단(Enum): %s
-            기준시각(ISO8601, 서버가 주입): %s
+            기준시각: 프롬프트 마지막 줄 참고
 
             규칙:
             - categoryId와 emotionId는 위 목록에서 "정확히 찾을 수 있을 때" 해당 id 사용, 그렇지 않으면 0 반환
@@ -52,6 +57,48 @@ public class PromptTemplates {
             - 사용자가 말한 "장소/상호/플랫폼/지점/지역" 등의 맥락(예: '스타벅스에서', '강남역 이마트에서', '배달의민족으로')이 있으면 이를 memo에 포함
             - 품목/상세(예: '아메리카노', '점심', '버스비', '택시')가 있으면 함께 포함
             - 불필요한 조사/감탄사/군더더기는 제거하고 핵심 키워드만 간결하게 기록
-            """.formatted(categoryJson, emotionJson, paymentMethodsJson, baseDateTime);
+            """.formatted(categoryJson, emotionJson, paymentMethodsJson);
+    }
+
+    /**
+     * 압축 시스템 프롬프트 (기준시각 제외, PromptVariant.COMPACT)
+     * - 카탈로그는 "id:이름" 목록을 타입별 한 줄로, 규칙은 같은 내용을 짧게
+     */
+    public static String compactSystemPrompt(String expenseCategories, String incomeCategories,
+                                             String emotions, String paymentMethods) {
+
+        return """
+            한국어 가계부 문장 → JSON 배열. 거래가 여러 개면 분리. JSON 배열 외 텍스트 금지.
+            [{"type":"income|expense","amount":number,"memo":string,"categoryId":number,"paymentMethod":string,"emotionId":number,"isInstallment":boolean,"installmentMonths":number,"date":"YYYY-MM-DDTHH:mm:ss"}]
+            지출 카테고리(id:이름): %s
+            수입 카테고리(id:이름): %s
+            감정(id:이름): %s
+            결제수단: %s
+            규칙:
+            - categoryId/emotionId: 목록에서 정확히 찾을 때만 id, 아니면 0. type은 카테고리 구분을 따름
+            - paymentMethod: 결제수단 중 하나 그대로
+            - 할부/분할/개월 → isInstallment=true, 개월수 모르면 12. 일시불/한번에 → false, 0
+            - amount: 숫자만 (오 천원=5000, 만 칠천원=17000)
+            - date: 오늘/어제/그저께/내일/모레, 이번·지난·다음 주+요일은 기준시각 기준. "8월 3일"처럼 연도 없으면 기준시각 연도. 시간 없으면 T00:00:00, 시간만 있으면 기준시각 날짜. 거래별로 따로, 타임존 표기 금지
+            - memo: 장소/상호/플랫폼 + 품목만 간결하게 (조사, 군더더기 제거)
+            """.formatted(expenseCategories, incomeCategories, emotions, paymentMethods);
+    }
+
+    /**
+     * 일괄 분석 시 시스템 프롬프트와 기준시각 사이에 들어가는 안내
+     * - 발화는 "[번호] 문장" 형태로 한 줄씩 전달
+     */
+    public static String batchInstruction() {
+        return """
+            여러 발화가 "[번호] 문장" 형태로 한 줄씩 주어집니다. 발화별로 위 규칙대로 분석하고,
+            모든 거래를 하나의 JSON 배열로 반환하되 각 객체에 발화 번호를 "index": <number> 로 넣으세요.
+            """;
+    }
+
+    /**
+     * 시스템 프롬프트 마지막 줄에 붙는 기준시각
+     */
+    public static String baseDateTimeLine(String baseDateTime) {
+        return "기준시각(ISO8601, 서버가 주입): " + baseDateTime;
     }
 }
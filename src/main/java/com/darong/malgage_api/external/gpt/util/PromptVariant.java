@@ -0,0 +1,12 @@
+package com.darong.malgage_api.external.gpt.util;
+
+/**
+ * 시스템 프롬프트 형태
+ * - VERBOSE: 카테고리/감정을 JSON 으로 넣고 규칙을 길게 설명 (기존 형태)
+ * - COMPACT: "id:이름" 목록을 타입별로 묶고 규칙을 압축 (입력 토큰 절감 → 비용, 첫 토큰 지연 감소)
+ *   실제 응답을 녹화한 골든셋 평가(GoldenSetEvaluationTest)로 VERBOSE 와 정확도를 비교하기 전까지는 opt-in
+ */
+public enum PromptVariant {
+    VERBOSE,
+    COMPACT
+}
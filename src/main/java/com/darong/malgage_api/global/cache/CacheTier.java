@@ -0,0 +1,18 @@
+package com.darong.malgage_api.global.cache;
+
+/**
+ * TwoLevelCache 의 2차(공유) 캐시 계층
+ * - Redis 등 외부 저장소 구현을 빈으로 등록하면 교체됨 (미등록 시 NoOpCacheTier)
+ * - 구현체는 실패 시 예외 대신 miss(null)로 처리해야 함 (캐시 장애가 조회 실패로 번지지 않도록)
+ */
+public interface CacheTier<K, V> {
+
+    /**
+     * @return 캐시된 값, 없으면 null
+     */
+    V get(K key);
+
+    void put(K key, V value);
+
+    void evict(K key);
+}
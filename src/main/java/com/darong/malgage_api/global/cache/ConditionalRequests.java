@@ -0,0 +1,43 @@
+package com.darong.malgage_api.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * 사용자별 데이터 버전 기반 조건부 GET (ETag)
+ * - ETag: 기동 시각 + 사용자 + 응답이 의존하는 범위들의 버전 → 데이터가 그대로면 같은 값
+ * - If-None-Match 가 일치하면 조회 없이 304 (WebRequest 가 응답 헤더/상태를 채움)
+ * - Last-Modified 는 보내지 않음: HTTP 날짜는 초 단위라 같은 초 안의 변경을 구분하지 못해 잘못된 304 가 날 수 있음
+ * - UserVersionRegistry 가 프로세스별이므로 단일 인스턴스 배포를 전제로 함
+ *   (여러 대면 인스턴스마다 버전/기동 시각이 달라 ETag 가 일치하지 않거나, 다른 인스턴스의 변경을 놓침)
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalRequests {
+
+    /**
+     * 앱이 매번 재검증하도록 (저장은 하되 쓰기 전 If-None-Match 로 확인)
+     */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final UserVersionRegistry userVersionRegistry;
+
+    /**
+     * @return true 면 304 로 응답하면 됨 (컨트롤러는 null 반환)
+     */
+    public boolean notModified(WebRequest request, Long userId, VersionScope... scopes) {
+        return request.checkNotModified(etag(userId, scopes));
+    }
+
+    String etag(Long userId, VersionScope... scopes) {
+        StringBuilder sb = new StringBuilder()
+                .append(Long.toString(userVersionRegistry.getBootEpoch(), 36))
+                .append('-').append(userId);
+        for (VersionScope scope : scopes) {
+            sb.append('-').append(userVersionRegistry.current(scope, userId));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.darong.malgage_api.global.cache;
+
+/**
+ * 2차 캐시를 쓰지 않을 때의 기본 계층 (항상 miss)
+ */
+public class NoOpCacheTier<K, V> implements CacheTier<K, V> {
+
+    @Override
+    public V get(K key) {
+        return null;
+    }
+
+    @Override
+    public void put(K key, V value) {
+    }
+
+    @Override
+    public void evict(K key) {
+    }
+}
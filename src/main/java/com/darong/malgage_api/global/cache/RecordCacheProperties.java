@@ -0,0 +1,20 @@
+package com.darong.malgage_api.global.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 월별 기록 캐시 설정
+ * - 쓰기 시 캐시를 직접 갱신하므로 TTL 은 안전망
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.records")
+@Data
+public class RecordCacheProperties {
+    private long maximumSize = 20_000;
+    private Duration expireAfterWrite = Duration.ofMinutes(30);
+    private int hotMonths = 2;          // 캐시 대상: 이번 달부터 과거로 몇 개월
+}
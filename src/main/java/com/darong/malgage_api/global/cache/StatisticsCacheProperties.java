@@ -0,0 +1,19 @@
+package com.darong.malgage_api.global.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 통계 캐시 설정
+ * - 기록 변경 시 해당 기간만 정확히 무효화되므로 TTL은 카테고리/감정 이름 변경 등을 위한 안전망
+ */
+@Component
+@ConfigurationProperties(prefix = "cache.statistics")
+@Data
+public class StatisticsCacheProperties {
+    private long maximumSize = 10_000;
+    private Duration expireAfterWrite = Duration.ofHours(6);
+}
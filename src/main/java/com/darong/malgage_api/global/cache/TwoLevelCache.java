@@ -0,0 +1,48 @@
+package com.darong.malgage_api.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.function.Function;
+
+/**
+ * 2단 캐시
+ * - 1차: 프로세스 내 Caffeine (크기/TTL 제한)
+ * - 2차: 교체 가능한 CacheTier (기본 NoOp)
+ *
+ * 조회는 1차 → 2차 → loader 순서이며, 같은 key의 동시 miss는 Caffeine 이 한 번만 로드함
+ */
+public class TwoLevelCache<K, V> {
+
+    private final Cache<K, V> local;
+    private final CacheTier<K, V> remote;
+
+    public TwoLevelCache(Cache<K, V> local, CacheTier<K, V> remote) {
+        this.local = local;
+        this.remote = remote;
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        return local.get(key, k -> {
+            V cached = remote.get(k);
+            if (cached != null) {
+                return cached;
+            }
+            V loaded = loader.apply(k);
+            if (loaded != null) {
+                remote.put(k, loaded);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * key 무효화
+     * - 1차 invalidate 는 같은 key의 로드가 진행 중이면 끝날 때까지 기다림
+     *   → 진행 중이던 로드가 2차에 넣은 옛 값까지 지운 뒤, 그 사이 2차에서 다시 읽힌 값도 한 번 더 제거
+     */
+    public void evict(K key) {
+        local.invalidate(key);
+        remote.evict(key);
+        local.invalidate(key);
+    }
+}
@@ -0,0 +1,43 @@
+package com.darong.malgage_api.global.cache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 데이터 버전
+ * - 캐시 key 에 버전을 포함시키고, 데이터가 바뀌면 bump 해서 이전 버전 캐시를 더 이상 읽지 않게 함
+ * - 이전 버전 항목은 각 캐시의 크기/TTL 제한으로 자연히 정리됨
+ * - 카운터가 사라지면 옛 버전 번호가 재사용될 수 있으므로 퇴출 없는 Map 사용 (사용자당 수십 바이트)
+ * - 메모리 카운터라 재시작 시 0부터 다시 시작함 → 외부로 나가는 값(ETag 등)은 bootEpoch 와 함께 사용
+ * - 프로세스별 카운터이므로 다른 인스턴스에서 일어난 변경은 bump 되지 않음
+ *   → 이 버전에 기대는 캐시/ETag 검증은 단일 인스턴스 배포를 전제로 함 (여러 대로 늘리면 공유 저장소로 옮겨야 함)
+ */
+@Component
+public class UserVersionRegistry {
+
+    private final long bootEpoch = System.currentTimeMillis();
+    private final Map<VersionScope, Map<Long, AtomicLong>> versions = new ConcurrentHashMap<>();
+
+    public long current(VersionScope scope, Long userId) {
+        AtomicLong version = counters(scope).get(userId);
+        return version == null ? 0L : version.get();
+    }
+
+    public long bump(VersionScope scope, Long userId) {
+        return counters(scope).computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * 기동 시각 (재시작 전후의 같은 버전 번호를 구분하는 용도)
+     */
+    public long getBootEpoch() {
+        return bootEpoch;
+    }
+
+    private Map<Long, AtomicLong> counters(VersionScope scope) {
+        return versions.computeIfAbsent(scope, s -> new ConcurrentHashMap<>());
+    }
+}
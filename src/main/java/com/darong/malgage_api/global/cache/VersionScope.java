@@ -0,0 +1,9 @@
+package com.darong.malgage_api.global.cache;
+
+/**
+ * 사용자별 버전을 관리하는 데이터 범위
+ */
+public enum VersionScope {
+    CATALOG,    // 카테고리/감정 목록 (가시성 포함)
+    RECORDS     // 가계부 기록 (할부 회차 포함)
+}
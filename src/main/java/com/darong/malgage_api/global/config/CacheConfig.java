@@ -0,0 +1,33 @@
+package com.darong.malgage_api.global.config;
+
+import com.darong.malgage_api.controller.dto.response.statistics.StatisticsResponseDto;
+import com.darong.malgage_api.domain.statistics.StatisticsCacheKey;
+import com.darong.malgage_api.global.cache.CacheTier;
+import com.darong.malgage_api.global.cache.NoOpCacheTier;
+import com.darong.malgage_api.global.cache.StatisticsCacheProperties;
+import com.darong.malgage_api.global.cache.TwoLevelCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    /**
+     * 통계 조회 캐시
+     * - 2차 계층은 CacheTier<StatisticsCacheKey, StatisticsResponseDto> 빈이 있으면 사용
+     */
+    @Bean
+    public TwoLevelCache<StatisticsCacheKey, StatisticsResponseDto> statisticsCache(
+            StatisticsCacheProperties properties,
+            ObjectProvider<CacheTier<StatisticsCacheKey, StatisticsResponseDto>> remoteTier) {
+        return new TwoLevelCache<>(
+                Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterWrite(properties.getExpireAfterWrite())
+                        .build(),
+                remoteTier.getIfAvailable(NoOpCacheTier::new)
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.darong.malgage_api.global.config;
 
+import com.darong.malgage_api.external.gpt.util.PromptVariant;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -14,4 +15,37 @@ public class OpenAiConfig {
     private int maxRetries = 3;
     private long baseRetryDelayMs = 1000L;
     private double temperature = 0.3;
-}
\ No newline at end of file
+    private PromptVariant promptVariant = PromptVariant.VERBOSE; // 시스템 프롬프트 형태 (COMPACT 는 정확도 검증 전까지 opt-in)
+    private int maxBatchSize = 20;                   // 일괄 분석 1회 최대 발화 수 (BatchAnalysisRequest.MAX_TEXTS 이하로만 낮출 수 있음)
+
+    // ===== HTTP 커넥션 풀 / 타임아웃 =====
+    private int maxConnections = 50;
+    private long pendingAcquireTimeoutMs = 5_000L;   // 풀 고갈 시 커넥션 대기 한도
+    private long maxIdleTimeMs = 20_000L;            // 서버가 끊기 전에 유휴 커넥션 정리
+    private long maxLifeTimeMs = 300_000L;
+    private int connectTimeoutMs = 3_000;
+    private long readTimeoutMs = 30_000L;            // 응답 도중 무응답 구간 한도
+    private long responseTimeoutMs = 30_000L;        // 요청 전송 후 응답 시작까지 한도
+    private int maxInMemorySize = 1024 * 1024;       // 응답 본문 버퍼 한도 (1MB)
+
+    // ===== 유량 제어 =====
+    private int requestsPerMinute = 500;             // OpenAI 계정의 분당 요청 한도에 맞춤
+    private int burstCapacity = 20;                  // 한 번에 몰려도 바로 보낼 수 있는 요청 수
+    private long maxQueueWaitMs = 3_000L;            // 토큰 대기 한도 (초과 시 Rate limit 응답)
+    private int maxConcurrentPerUser = 2;            // 사용자별 동시 분석 수
+
+    // ===== 재시도 예산 / Retry-After =====
+    private double retryBudgetRatio = 0.2;           // 요청 대비 재시도 허용 비율 (20%)
+    private double retryBudgetMinPerSecond = 1.0;    // 트래픽이 적을 때 보장하는 초당 재시도 수
+    private double retryBudgetMaxBalance = 20.0;     // 예산 적립 한도
+    private long maxRetryAfterMs = 10_000L;          // Retry-After 가 이보다 길면 기다리지 않고 실패
+
+    // ===== 서킷 브레이커 =====
+    private int circuitSlidingWindowSize = 50;       // 최근 N회 호출 기준
+    private int circuitMinimumCalls = 20;            // 집계 시작 최소 호출 수
+    private float circuitFailureRateThreshold = 50f; // 실패율(%) 기준
+    private float circuitSlowCallRateThreshold = 80f; // 느린 호출 비율(%) 기준
+    private long circuitSlowCallDurationMs = 15_000L; // 느린 호출 기준 시간
+    private long circuitOpenStateWaitMs = 30_000L;   // 열린 상태 유지 시간
+    private int circuitHalfOpenCalls = 5;            // half-open 상태에서 시험 호출 수
+}
@@ -0,0 +1,41 @@
+package com.darong.malgage_api.global.config;
+
+import com.darong.malgage_api.external.gpt.exception.LocalRateLimitException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+public class OpenAiResilienceConfig {
+
+    /**
+     * ✅ OpenAI 서킷 브레이커
+     * - 최근 호출 중 실패율 또는 느린 호출 비율이 기준을 넘으면 열림 → 대기시간 동안 호출 없이 바로 실패
+     * - 대기 후 일부 호출만 흘려 보내(half-open) 회복 여부 판단
+     * - 로컬 유량 제어로 거절된 호출은 OpenAI 상태와 무관하므로 집계하지 않음
+     */
+    @Bean
+    public CircuitBreaker openAiCircuitBreaker(OpenAiConfig config) {
+        CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(config.getCircuitSlidingWindowSize())
+                .minimumNumberOfCalls(config.getCircuitMinimumCalls())
+                .failureRateThreshold(config.getCircuitFailureRateThreshold())
+                .slowCallRateThreshold(config.getCircuitSlowCallRateThreshold())
+                .slowCallDurationThreshold(Duration.ofMillis(config.getCircuitSlowCallDurationMs()))
+                .waitDurationInOpenState(Duration.ofMillis(config.getCircuitOpenStateWaitMs()))
+                .permittedNumberOfCallsInHalfOpenState(config.getCircuitHalfOpenCalls())
+                .ignoreExceptions(LocalRateLimitException.class)
+                .build();
+
+        CircuitBreaker circuitBreaker = CircuitBreaker.of("openai", circuitBreakerConfig);
+        circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("OpenAI 서킷 상태 변경: {}", event.getStateTransition()));
+        return circuitBreaker;
+    }
+}
@@ -3,6 +3,7 @@ package com.darong.malgage_api.global.config;
 import com.darong.malgage_api.global.jwt.JwtAuthenticationFilter;
 import com.darong.malgage_api.global.jwt.JwtProvider;
 import com.darong.malgage_api.global.security.CustomAuthenticationEntryPoint;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -46,6 +47,8 @@ public class SecurityConfig {
 
                 // ✅ 요청 URL에 따른 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(CompletableFuture 등) 재디스패치는 최초 요청에서 이미 인증됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/**").permitAll() // 로그인, 회원가입 등 인증 필요 없는 엔드포인트 허용
                         .anyRequest().authenticated() // 나머지 모든 요청은 인증 필요
                 )
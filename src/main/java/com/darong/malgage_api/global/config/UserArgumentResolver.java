@@ -37,8 +37,8 @@ public class UserArgumentResolver implements HandlerMethodArgumentResolver {
     /**
      * 실제 User 객체를 반환
      * - SecurityContext에서 UserPrincipal 추출
-     * - UserRepository로 User 조회
-     * - 없으면 예외 발생
+     * - userId 로 User 프록시 반환 (쿼리 없음, id 외 필드 접근 시에만 지연 로딩)
+     *   → 필터에서 이미 인증된 사용자이므로 요청마다 재조회하지 않음
      */
     @Override
     public Object resolveArgument(MethodParameter parameter,
@@ -57,8 +57,7 @@ public class UserArgumentResolver implements HandlerMethodArgumentResolver {
         // UserPrincipal에서 userId 추출
         Long userId = extractUserIdFromAuthentication(authentication);
 
-        return userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 사용자입니다."));
+        return userRepository.getReferenceById(userId);
     }
 
     /**
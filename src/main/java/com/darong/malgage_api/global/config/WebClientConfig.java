@@ -1,9 +1,19 @@
 // 경로 예시: com.darong.malgage_api.global.config
 package com.darong.malgage_api.global.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebClientConfig {
@@ -13,4 +23,42 @@ public class WebClientConfig {
         return WebClient.builder();
     }
 
+    /**
+     * ✅ OpenAI 전용 WebClient (싱글톤)
+     * - 전용 커넥션 풀로 keep-alive 커넥션을 재사용해 요청마다 TCP/TLS 핸드셰이크를 하지 않음
+     * - 연결/읽기/응답 타임아웃과 응답 버퍼 한도를 명시
+     */
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder webClientBuilder, OpenAiConfig config,
+                                     ConnectionProvider openAiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(openAiConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(config.getResponseTimeoutMs()))
+                .doOnConnected(connection -> connection.addHandlerLast(
+                        new ReadTimeoutHandler(config.getReadTimeoutMs(), TimeUnit.MILLISECONDS)));
+
+        return webClientBuilder.clone() // 공용 빌더는 건드리지 않음
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(config.getMaxInMemorySize()))
+                .baseUrl(config.getBaseUrl()) // OpenAI API 기본 URL 설정
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + config.getApiKey()) // API 키를 Bearer 토큰으로 설정
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE) // JSON 형식으로 요청
+                .build();
+    }
+
+    /**
+     * OpenAI 커넥션 풀 (종료 시 커넥션 정리)
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAiConnectionProvider(OpenAiConfig config) {
+        return ConnectionProvider.builder("openai")
+                .maxConnections(config.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(config.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(config.getMaxIdleTimeMs()))
+                .maxLifeTime(Duration.ofMillis(config.getMaxLifeTimeMs()))
+                .evictInBackground(Duration.ofSeconds(30))
+                .build();
+    }
+
 }
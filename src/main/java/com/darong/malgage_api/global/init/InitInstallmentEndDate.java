@@ -0,0 +1,27 @@
+package com.darong.malgage_api.global.init;
+
+import com.darong.malgage_api.service.RecordService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 할부 기록의 마지막 회차 납부일 채우기
+ * - 회차를 저장하지 않고 계산하면서 추가된 컬럼이라, 그 이전에 저장된 할부 기록만 한 번 채워 넣음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InitInstallmentEndDate implements CommandLineRunner {
+
+    private final RecordService recordService;
+
+    @Override
+    public void run(String... args) {
+        int updated = recordService.backfillInstallmentEndDates();
+        if (updated > 0) {
+            log.info("할부 마지막 회차 납부일 {}건을 채웠습니다.", updated);
+        }
+    }
+}
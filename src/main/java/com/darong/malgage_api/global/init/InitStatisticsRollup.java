@@ -0,0 +1,25 @@
+package com.darong.malgage_api.global.init;
+
+import com.darong.malgage_api.service.StatisticsRollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * 월간 통계 롤업 초기 적재
+ * - 롤업 도입 이전에 쌓인 기록을 한 번만 집계해서 채워 넣음 (이미 데이터가 있으면 건너뜀)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InitStatisticsRollup implements CommandLineRunner {
+
+    private final StatisticsRollupService statisticsRollupService;
+
+    @Override
+    public void run(String... args) {
+        log.info("통계 롤업 초기화를 시작합니다.");
+        statisticsRollupService.rebuildIfEmpty();
+    }
+}
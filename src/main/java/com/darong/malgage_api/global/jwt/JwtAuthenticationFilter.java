@@ -2,6 +2,8 @@ package com.darong.malgage_api.global.jwt;
 
 // JWT 필터는 요청당 1회만 실행되어야 하므로 OncePerRequestFilter 상속
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import com.darong.malgage_api.global.util.TokenUtil;
 import com.darong.malgage_api.global.exception.UnauthorizedException;
 import jakarta.servlet.FilterChain;
@@ -63,11 +65,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 throw new UnauthorizedException("AccessToken이 누락되었습니다.");
             }
 
-            if (!jwtProvider.validateToken(token)) {
+            // 한 번만 검증하고, 디코딩 결과를 인증 객체 생성에 그대로 사용
+            DecodedJWT decoded;
+            try {
+                decoded = jwtProvider.verify(token);
+            } catch (JWTVerificationException e) {
                 throw new UnauthorizedException("AccessToken이 유효하지 않습니다.");
             }
 
-            SecurityContextHolder.getContext().setAuthentication(jwtProvider.getAuthentication(token));
+            SecurityContextHolder.getContext().setAuthentication(jwtProvider.getAuthentication(decoded));
         } catch (JwtException | UnauthorizedException e) {
             log.warn("❗ JWT 인증 실패: {}", e.getMessage());
             throw e; // ✅ 전역 @RestControllerAdvice에서 처리
@@ -10,6 +10,10 @@ import com.darong.malgage_api.global.security.UserPrincipal;
 import com.darong.malgage_api.domain.user.User;
 import com.darong.malgage_api.domain.user.repository.UserRepository;
 import com.darong.malgage_api.global.exception.UnauthorizedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -17,6 +21,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -33,23 +38,53 @@ public class JwtProvider {
     @Value("${jwt.refresh-token-expiration-days}")
     private long refreshTokenExpirationDays;
 
-    private Algorithm algorithm() {
-        return Algorithm.HMAC256(secret);
-    }
-
-    private JWTVerifier verifier() {
-        return JWT.require(algorithm()).build();
+    /**
+     * 최근 검증된 토큰 (토큰 만료 시각에 함께 만료)
+     * - 같은 토큰으로 연속 호출되는 요청은 HMAC 재계산 없이 검증 결과 재사용
+     */
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    // Algorithm / JWTVerifier 는 thread-safe 이므로 한 번만 생성해서 재사용
+    private Algorithm algorithm;
+    private JWTVerifier verifier;
+    private Cache<String, DecodedJWT> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+                .expireAfter(new Expiry<String, DecodedJWT>() {
+                    @Override
+                    public long expireAfterCreate(String token, DecodedJWT decoded, long currentTime) {
+                        long remainingMillis = decoded.getExpiresAt().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, DecodedJWT decoded, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, DecodedJWT decoded, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
-    public String createAccessToken(String email, AuthProvider provider, String oauthId) {
+    public String createAccessToken(Long userId, String email, AuthProvider provider, String oauthId) {
         return JWT.create()
                 .withSubject("AccessToken")
+                .withClaim("userId", userId)
                 .withClaim("email", email)
                 .withClaim("provider", provider.name())
                 .withClaim("oauthId", oauthId)
                 .withIssuedAt(new Date())
                 .withExpiresAt(new Date(System.currentTimeMillis() + 1000 * 60 * accessTokenExpirationMinutes)) // 30분
-                .sign(algorithm());
+                .sign(algorithm);
     }
 
     public String createRefreshToken() {
@@ -57,7 +92,7 @@ public class JwtProvider {
                 .withSubject("RefreshToken")
                 .withIssuedAt(new Date())
                 .withExpiresAt(new Date(System.currentTimeMillis() + 1000L * 60 * 60 * 24 * refreshTokenExpirationDays)) // 14일
-                .sign(algorithm());
+                .sign(algorithm);
     }
 
     /**
@@ -65,8 +100,7 @@ public class JwtProvider {
      */
     public boolean validateToken(String token) {
         try {
-            JWTVerifier verifier = JWT.require(algorithm()).build();
-            verifier.verify(token);
+            verify(token);
             return true;
         } catch (JWTVerificationException e) {
             return false;
@@ -78,23 +112,53 @@ public class JwtProvider {
     }
 
     public DecodedJWT getDecodedJWT(String token) {
-        return verifier().verify(token);
+        return verify(token);
+    }
+
+    /**
+     * 토큰 검증 후 디코딩 결과 반환 (최근 검증된 토큰은 캐시 사용)
+     * @throws JWTVerificationException 서명 불일치, 만료 등
+     */
+    public DecodedJWT verify(String token) {
+        DecodedJWT cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        DecodedJWT decoded = verifier.verify(token);
+        if (decoded.getExpiresAt() != null) {
+            verifiedTokens.put(token, decoded);
+        }
+        return decoded;
     }
 
     /**
      * Spring Security 인증 객체 반환
+     * - userId 클레임이 있으면 DB 조회 없이 인증 객체 생성
+     * - userId 클레임 도입 이전에 발급된 토큰만 oauthId 로 사용자 조회
      */
     public Authentication getAuthentication(String accessToken) {
-        DecodedJWT decoded = getDecodedJWT(accessToken);
-        String provider = decoded.getClaim("provider").asString();
-        String oauthId = decoded.getClaim("oauthId").asString();
+        return getAuthentication(verify(accessToken));
+    }
+
+    /**
+     * 이미 검증된 토큰으로 인증 객체 생성 (필터에서 검증 결과를 그대로 넘겨 재검증하지 않음)
+     */
+    public Authentication getAuthentication(DecodedJWT decoded) {
+        Long userId = decoded.getClaim("userId").asLong();
 
-        User userEntity = userRepository.findByOauthIdAndProvider(oauthId, AuthProvider.valueOf(provider))
-                .orElseThrow(() -> new UnauthorizedException("유저를 찾을 수 없습니다."));
+        if (userId == null) {
+            String provider = decoded.getClaim("provider").asString();
+            String oauthId = decoded.getClaim("oauthId").asString();
+
+            User userEntity = userRepository.findByOauthIdAndProvider(oauthId, AuthProvider.valueOf(provider))
+                    .orElseThrow(() -> new UnauthorizedException("유저를 찾을 수 없습니다."));
+            userId = userEntity.getId();
+        }
 
-        UserPrincipal userPrincipal = new UserPrincipal(userEntity);
+        UserPrincipal userPrincipal = new UserPrincipal(userId, decoded.getClaim("email").asString());
 
-        return new UsernamePasswordAuthenticationToken(userPrincipal, accessToken, userPrincipal.getAuthorities());
+        return new UsernamePasswordAuthenticationToken(userPrincipal, decoded.getToken(), userPrincipal.getAuthorities());
     }
 
 }
@@ -0,0 +1,27 @@
+package com.darong.malgage_api.global.scheduler;
+
+import com.darong.malgage_api.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 기간(SyncTombstone.RETENTION)이 지난 동기화 삭제 기록 정리
+ * - 매일 새벽 한 번 (sync.tombstone-purge-cron 으로 변경 가능)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SyncTombstonePurgeScheduler {
+
+    private final SyncService syncService;
+
+    @Scheduled(cron = "${sync.tombstone-purge-cron:0 30 4 * * *}")
+    public void purge() {
+        int deleted = syncService.purgeExpiredTombstones();
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 동기화 삭제 기록 {}건을 정리했습니다.", deleted);
+        }
+    }
+}
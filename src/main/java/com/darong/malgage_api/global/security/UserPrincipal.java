@@ -13,6 +13,15 @@ public class UserPrincipal extends org.springframework.security.core.userdetails
         this.userId = userEntity.getId();
     }
 
+    /**
+     * Access Token 클레임만으로 생성 (DB 조회 없음)
+     * - email 이 없는 경우(Apple 등) userId 를 username 으로 사용
+     */
+    public UserPrincipal(Long userId, String email) {
+        super(email != null && !email.isBlank() ? email : String.valueOf(userId), "", Collections.emptyList());
+        this.userId = userId;
+    }
+
     public Long getUserId() {
         return userId;
     }
@@ -6,6 +6,7 @@ import com.darong.malgage_api.domain.category.CategoryScope;
 import com.darong.malgage_api.domain.category.CategoryType;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
@@ -21,4 +22,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * 사용자의 커스텀 카테고리만 조회 (타입별, 정렬순서로 정렬)
      */
     List<Category> findByUserIdAndScopeOrderByTypeAscSortOrderAsc(Long userId, CategoryScope scope);
+
+    /**
+     * 사용자의 커스텀 카테고리 중 since 이후 생성/수정된 것이 있는지 (증분 동기화)
+     */
+    boolean existsByUserIdAndUpdatedAtGreaterThanEqual(Long userId, LocalDateTime since);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import com.darong.malgage_api.domain.emotion.EmotionScope;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface EmotionRepository extends JpaRepository<Emotion, Long> {
@@ -20,4 +21,9 @@ public interface EmotionRepository extends JpaRepository<Emotion, Long> {
      * 사용자의 커스텀 카테고리만 조회 (타입별, 정렬순서로 정렬)
      */
     List<Emotion> findByUserIdAndScopeOrderBySortOrderAsc(Long userId, EmotionScope scope);
+
+    /**
+     * 사용자의 커스텀 감정 중 since 이후 생성/수정된 것이 있는지 (증분 동기화)
+     */
+    boolean existsByUserIdAndUpdatedAtGreaterThanEqual(Long userId, LocalDateTime since);
 }
\ No newline at end of file
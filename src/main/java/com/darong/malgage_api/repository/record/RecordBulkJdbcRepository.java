@@ -0,0 +1,95 @@
+package com.darong.malgage_api.repository.record;
+
+import com.darong.malgage_api.domain.record.Record;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대량 등록 전용 JDBC 저장소
+ * - Record 는 IDENTITY 전략이라 Hibernate 가 insert 를 배치로 묶지 못하므로,
+ *   multi-row INSERT (VALUES (...), (...), ...) 한 문장으로 CHUNK_SIZE 건씩 저장
+ * - MySQL 은 한 문장 안의 auto increment 값을 연속으로 할당하고,
+ *   드라이버가 생성된 key 를 입력 순서대로 돌려줌
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecordBulkJdbcRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String RECORD_INSERT_PREFIX = """
+            INSERT INTO record
+                (amount, type, date, category_id, emotion_id, payment_method,
+                 is_installment, installment_months, installment_end_date, memo, user_id, created_at, updated_at)
+            VALUES\s""";
+    private static final String RECORD_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기록 일괄 저장
+     * @return 입력 순서와 같은 순서의 생성 id 목록 (건수 검증은 호출 측에서)
+     */
+    public List<Long> insertRecords(Long userId, List<Record> records) {
+        List<Long> ids = new ArrayList<>(records.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < records.size(); from += CHUNK_SIZE) {
+            List<Record> chunk = records.subList(from, Math.min(from + CHUNK_SIZE, records.size()));
+            String sql = RECORD_INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), RECORD_VALUES));
+
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                int i = 1;
+                for (Record record : chunk) {
+                    ps.setInt(i++, record.getAmount());
+                    ps.setString(i++, record.getType().name());
+                    ps.setTimestamp(i++, Timestamp.valueOf(record.getDate()));
+                    ps.setLong(i++, record.getCategory().getId());
+                    ps.setLong(i++, record.getEmotion().getId());
+                    if (record.getPaymentMethod() != null) {
+                        ps.setString(i++, record.getPaymentMethod().name());
+                    } else {
+                        ps.setNull(i++, Types.VARCHAR);
+                    }
+                    ps.setBoolean(i++, record.hasInstallment());
+                    if (record.getInstallmentMonths() != null) {
+                        ps.setInt(i++, record.getInstallmentMonths());
+                    } else {
+                        ps.setNull(i++, Types.INTEGER);
+                    }
+                    if (record.getInstallmentEndDate() != null) {
+                        ps.setTimestamp(i++, Timestamp.valueOf(record.getInstallmentEndDate()));
+                    } else {
+                        ps.setNull(i++, Types.TIMESTAMP);
+                    }
+                    ps.setString(i++, record.getMemo());
+                    ps.setLong(i++, userId);
+                    ps.setTimestamp(i++, now);
+                    ps.setTimestamp(i++, now);
+                }
+                return ps;
+            }, keyHolder);
+
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+
+        return ids;
+    }
+}
@@ -1,7 +1,9 @@
 package com.darong.malgage_api.repository.record;
 
-import com.darong.malgage_api.domain.record.Record;
+import com.darong.malgage_api.controller.dto.response.record.QRecordResponseDto;
+import com.darong.malgage_api.controller.dto.response.record.RecordResponseDto;
 import com.darong.malgage_api.domain.user.User;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -13,7 +15,6 @@ import java.util.List;
 import static com.darong.malgage_api.domain.record.QRecord.record;
 import static com.darong.malgage_api.domain.category.QCategory.category;
 import static com.darong.malgage_api.domain.emotion.QEmotion.emotion;
-import static com.darong.malgage_api.domain.record.QInstallmentSchedule. installmentSchedule;
 
 @Repository
 @RequiredArgsConstructor
@@ -23,14 +24,15 @@ public class RecordQueryRepository {
 
     /**
      * 사용자의 기간별 가계부 기록 조회
-     * "DTO에서 category, emotion 필드를 안전하게 사용하기 위해,
-     * 해당 연관 객체들을 fetchJoin으로 미리 조회하여 LazyInitializationException을 방지한다."
+     * - 조회 전용이므로 엔티티 대신 응답에 필요한 컬럼만 DTO 로 projection
+     *   (영속성 컨텍스트 적재/스냅샷 없음)
      */
-    public List<Record> findRecordsByUserAndDateBetween(User user, LocalDateTime start, LocalDateTime end) {
+    public List<RecordResponseDto> findRecordsByUserAndDateBetween(User user, LocalDateTime start, LocalDateTime end) {
         return queryFactory
-                .selectFrom(record)
-                .join(record.category, category).fetchJoin()
-                .join(record.emotion, emotion).fetchJoin()
+                .select(recordRow())
+                .from(record)
+                .join(record.category, category)
+                .join(record.emotion, emotion)
                 .where(
                         record.user.eq(user)
                                 .and(record.date.between(start, end))
@@ -39,5 +41,134 @@ public class RecordQueryRepository {
                 .fetch();
     }
 
-}
+    /**
+     * ✅ 커서 이전의 일반 기록을 (date, id) 내림차순으로 limit 건 조회 (idx_record_user_date 사용)
+     * @param from 조회 하한 (null 이면 제한 없음)
+     * @param cursorDate 직전 페이지 마지막 항목의 날짜 (null 이면 첫 페이지)
+     */
+    public List<RecordResponseDto> findRecordsBefore(User user, LocalDateTime from, LocalDateTime to,
+                                                     LocalDateTime cursorDate, Long cursorId, int limit) {
+        return queryFactory
+                .select(recordRow())
+                .from(record)
+                .join(record.category, category)
+                .join(record.emotion, emotion)
+                .where(
+                        record.user.eq(user),
+                        record.isInstallment.eq(false),
+                        from == null ? null : record.date.goe(from),
+                        to == null ? null : record.date.loe(to),
+                        beforeCursor(cursorDate, cursorId)
+                )
+                .orderBy(record.date.desc(), record.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * ✅ 구간 [from, to] 에 납부 회차가 하나라도 걸리는 할부 기록 (idx_record_user_installment_end 사용)
+     * - 결제일 <= to 이고 마지막 회차 납부일 >= from 인 기록 (null 이면 해당 방향 제한 없음)
+     * - 원 기록 행을 돌려주고, 실제 회차는 InstallmentPlan 으로 계산
+     */
+    public List<RecordResponseDto> findInstallmentsOverlapping(User user, LocalDateTime from, LocalDateTime to) {
+        return queryFactory
+                .select(recordRow())
+                .from(record)
+                .join(record.category, category)
+                .join(record.emotion, emotion)
+                .where(
+                        record.user.eq(user),
+                        record.isInstallment.eq(true),
+                        from == null ? null : record.installmentEndDate.goe(from),
+                        to == null ? null : record.date.loe(to)
+                )
+                .fetch();
+    }
 
+    /**
+     * ✅ since 이후 생성/수정된 기록을 id 오름차순으로 afterId 다음부터 limit 건 (idx_record_user_updated 사용, 증분 동기화)
+     * - 페이지 사이에 수정된 기록은 updatedAt 이 동기화 시작 이후가 되므로 다음 동기화에서 다시 내려감
+     * @param since null 이면 전체
+     * @param afterId 직전 페이지 마지막 기록 id (null 이면 첫 페이지)
+     */
+    public List<RecordResponseDto> findRecordsUpdatedSince(User user, LocalDateTime since, Long afterId, int limit) {
+        return queryFactory
+                .select(recordRow())
+                .from(record)
+                .join(record.category, category)
+                .join(record.emotion, emotion)
+                .where(
+                        record.user.eq(user),
+                        since == null ? null : record.updatedAt.goe(since),
+                        afterId == null ? null : record.id.gt(afterId)
+                )
+                .orderBy(record.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * ✅ 결제일 <= upper 인 할부 기록을 (마지막 회차 납부일, id) 내림차순으로 limit 건 (idx_record_user_installment_end 사용)
+     * - 커서 조회에서 최근 회차가 있을 수 있는 기록부터 읽고, 더 볼 필요가 없으면 멈추기 위함
+     * @param floor 마지막 회차 납부일 하한 (null 이면 제한 없음)
+     * @param upper 결제일 상한 (null 이면 제한 없음)
+     * @param afterEndDate 직전 묶음 마지막 기록의 마지막 회차 납부일 (null 이면 처음부터)
+     */
+    public List<InstallmentRow> findInstallmentsByEndDateDesc(User user, LocalDateTime floor, LocalDateTime upper,
+                                                              LocalDateTime afterEndDate, Long afterId, int limit) {
+        QRecordResponseDto row = recordRow();
+        return queryFactory
+                .select(row, record.installmentEndDate)
+                .from(record)
+                .join(record.category, category)
+                .join(record.emotion, emotion)
+                .where(
+                        record.user.eq(user),
+                        record.isInstallment.eq(true),
+                        record.installmentEndDate.isNotNull(),
+                        floor == null ? null : record.installmentEndDate.goe(floor),
+                        upper == null ? null : record.date.loe(upper),
+                        afterEndDate == null ? null : record.installmentEndDate.lt(afterEndDate)
+                                .or(record.installmentEndDate.eq(afterEndDate).and(record.id.lt(afterId)))
+                )
+                .orderBy(record.installmentEndDate.desc(), record.id.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> new InstallmentRow(tuple.get(row), tuple.get(record.installmentEndDate)))
+                .toList();
+    }
+
+    /**
+     * 할부 기록 행 + 마지막 회차 납부일 (keyset 위치)
+     */
+    public record InstallmentRow(RecordResponseDto row, LocalDateTime endDate) {}
+
+    private QRecordResponseDto recordRow() {
+        return new QRecordResponseDto(
+                record.id,
+                record.amount,
+                category.id,
+                category.name,
+                category.iconName,
+                emotion.id,
+                emotion.name,
+                emotion.iconName,
+                record.date,
+                record.type,
+                record.paymentMethod,
+                record.isInstallment,
+                record.installmentMonths,
+                record.memo
+        );
+    }
+
+    private BooleanExpression beforeCursor(LocalDateTime cursorDate, Long cursorId) {
+        if (cursorDate == null) {
+            return null;
+        }
+        return record.date.lt(cursorDate)
+                .or(record.date.eq(cursorDate).and(record.id.lt(cursorId)));
+    }
+
+}
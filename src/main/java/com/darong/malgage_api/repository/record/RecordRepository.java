@@ -2,6 +2,7 @@ package com.darong.malgage_api.repository.record;
 
 import com.darong.malgage_api.domain.record.Record;
 import com.darong.malgage_api.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
@@ -10,4 +11,11 @@ import java.util.List;
 public interface RecordRepository extends JpaRepository<Record, Long> {
 
     List<Record> findByUserAndDateBetween(User user, LocalDateTime startDate, LocalDateTime endDate);
-}
\ No newline at end of file
+
+    /**
+     * id 이후의 할부 기록 (id 오름차순, 전체 적재 시 페이지 단위로 읽기)
+     */
+    List<Record> findByIsInstallmentTrueAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<Record> findByIsInstallmentTrueAndInstallmentEndDateIsNull();
+}
@@ -0,0 +1,229 @@
+package com.darong.malgage_api.repository.statistics;
+
+import com.darong.malgage_api.controller.dto.response.statistics.*;
+import com.darong.malgage_api.domain.record.RecordType;
+import com.darong.malgage_api.domain.statistics.StatisticsRollup;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 통계 집계기
+ * - 현재 기간 + 직전 기간의 월간 롤업 행과 현재 기간 할부 회차 상세를 한 번씩만 읽어 메모리에서 모든 섹션을 계산
+ * - 섹션별로 집계 쿼리를 따로 날리던 방식(요청당 10회 이상 왕복)을 대체
+ */
+final class StatisticsAggregator {
+
+    /**
+     * 월간 롤업 한 행 (일반 기록 합계 또는 할부 월 납부금 합계)
+     */
+    record RollupRow(Integer statMonth, RecordType type, Boolean installment, String paymentMethod,
+                     Long amount, Integer count,
+                     Long categoryId, String categoryName, String categoryIcon,
+                     Long emotionId, String emotionName, String emotionIcon) {}
+
+    /**
+     * 현재 기간의 할부 회차 한 건 (할부 요약 상세용)
+     */
+    record InstallmentRow(Long recordId, String memo, Integer totalAmount, Integer installmentMonths,
+                          Integer installmentIndex, Integer monthlyAmount, LocalDateTime scheduledDate) {}
+
+    private static class Bucket {
+        String name;
+        String icon;
+        int amount;
+        int count;
+    }
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final LocalDateTime prevStart;
+    private final LocalDateTime prevEnd;
+
+    private int totalIncome;
+    private int normalExpense;
+    private int installmentExpense;
+    private int lastPeriodExpense;
+
+    // 롤업 행을 일반 → 할부 순으로 넣으므로 "일반 → 할부" 순서가 그대로 유지됨
+    private final Map<Long, Bucket> emotions = new LinkedHashMap<>();
+    private final Map<Long, Bucket> categories = new LinkedHashMap<>();
+    private final Map<String, Bucket> paymentMethods = new LinkedHashMap<>();
+
+    private final List<InstallmentDetailDto> installmentDetails = new ArrayList<>();
+    private final Set<Long> activeInstallmentRecordIds = new HashSet<>();
+
+    StatisticsAggregator(LocalDateTime start, LocalDateTime end, LocalDateTime prevStart, LocalDateTime prevEnd) {
+        this.start = start;
+        this.end = end;
+        this.prevStart = prevStart;
+        this.prevEnd = prevEnd;
+    }
+
+    /**
+     * 롤업 행 반영
+     * - 일반 기록: 수입은 총수입, 지출은 각 섹션에 반영
+     * - 할부: 기존 쿼리와 동일하게 Record 타입과 무관하게 지출로 집계
+     */
+    void addRollup(RollupRow row) {
+        LocalDateTime monthStart = YearMonth.of(row.statMonth() / 100, row.statMonth() % 100)
+                .atDay(1).atStartOfDay();
+        int amount = row.amount().intValue();
+        boolean installment = Boolean.TRUE.equals(row.installment());
+
+        if (!installment && row.type() == RecordType.INCOME) {
+            if (inCurrentPeriod(monthStart)) {
+                totalIncome += amount;
+            }
+            return;
+        }
+
+        if (inCurrentPeriod(monthStart)) {
+            if (installment) {
+                installmentExpense += amount;
+            } else {
+                normalExpense += amount;
+            }
+            accumulate(emotions, row.emotionId(), row.emotionName(), row.emotionIcon(), amount, row.count());
+            accumulate(categories, row.categoryId(), row.categoryName(), row.categoryIcon(), amount, row.count());
+            accumulate(paymentMethods, paymentKey(row.paymentMethod()), null, null, amount, row.count());
+        } else if (inPreviousPeriod(monthStart)) {
+            lastPeriodExpense += amount;
+        }
+    }
+
+    /**
+     * 현재 기간 할부 회차 상세 반영 (금액 합계는 롤업에서 이미 집계됨)
+     */
+    void addInstallmentDetail(InstallmentRow row) {
+        activeInstallmentRecordIds.add(row.recordId());
+        installmentDetails.add(new InstallmentDetailDto(
+                row.recordId(),
+                buildInstallmentDescription(row.memo()),
+                row.totalAmount(),
+                row.monthlyAmount(),
+                row.installmentIndex(),
+                row.installmentMonths(),
+                row.installmentIndex() + "/" + row.installmentMonths(),
+                row.scheduledDate()
+        ));
+    }
+
+    StatisticsResponseDto toResponse() {
+        int totalExpense = normalExpense + installmentExpense;
+        int netIncome = totalIncome - totalExpense;
+        double changePercent = (lastPeriodExpense == 0) ? 0.0
+                : ((totalExpense - lastPeriodExpense) * 100.0 / lastPeriodExpense);
+
+        PeriodOverviewDto overview = new PeriodOverviewDto(
+                totalIncome, totalExpense, lastPeriodExpense, netIncome, round1(changePercent)
+        );
+
+        BudgetProgressDto budget = null; // 연/월 통합 예산 로직은 이후 추가
+        List<InsightDto> insights = Collections.emptyList();
+
+        return new StatisticsResponseDto(
+                overview,
+                budget,
+                buildEmotionalSpending(totalExpense),
+                buildCategorySpending(totalExpense),
+                buildPaymentMethodSpending(totalExpense),
+                buildInstallmentSummary(),
+                insights
+        );
+    }
+
+    // ---------- 섹션 빌더 ----------
+
+    private List<EmotionalSpendingDto> buildEmotionalSpending(int totalExpense) {
+        return emotions.entrySet().stream()
+                .map(e -> new EmotionalSpendingDto(
+                        e.getKey(),
+                        e.getValue().name,
+                        e.getValue().icon,
+                        e.getValue().amount,
+                        percentage(e.getValue().amount, totalExpense)
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private List<CategorySpendingDto> buildCategorySpending(int totalExpense) {
+        return categories.entrySet().stream()
+                .map(e -> new CategorySpendingDto(
+                        e.getKey(),
+                        e.getValue().name,
+                        e.getValue().icon,
+                        e.getValue().amount,
+                        percentage(e.getValue().amount, totalExpense),
+                        e.getValue().count
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private List<PaymentMethodSpendingDto> buildPaymentMethodSpending(int totalExpense) {
+        return paymentMethods.entrySet().stream()
+                .map(e -> new PaymentMethodSpendingDto(
+                        e.getKey(),
+                        toKoreanPaymentName(e.getKey()),
+                        e.getValue().amount,
+                        percentage(e.getValue().amount, totalExpense),
+                        e.getValue().count
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private InstallmentSummaryDto buildInstallmentSummary() {
+        double paymentRatio = (totalIncome == 0) ? 0.0 : round1(installmentExpense * 100.0 / totalIncome);
+        return new InstallmentSummaryDto(
+                activeInstallmentRecordIds.size(),
+                installmentExpense,
+                paymentRatio,
+                installmentDetails
+        );
+    }
+
+    // ===== 유틸 =====
+
+    private <K> void accumulate(Map<K, Bucket> map, K key, String name, String icon, int amount, int count) {
+        Bucket bucket = map.computeIfAbsent(key, k -> new Bucket());
+        bucket.name = name;
+        bucket.icon = icon;
+        bucket.amount += amount;
+        bucket.count += count;
+    }
+
+    private boolean inCurrentPeriod(LocalDateTime date) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    private boolean inPreviousPeriod(LocalDateTime date) {
+        return !date.isBefore(prevStart) && !date.isAfter(prevEnd);
+    }
+
+    private String paymentKey(String paymentMethod) {
+        return StatisticsRollup.NO_PAYMENT_METHOD.equals(paymentMethod) ? null : paymentMethod;
+    }
+
+    private String buildInstallmentDescription(String memo) {
+        return (memo == null || memo.isBlank()) ? "할부 결제" : memo;
+    }
+
+    private double percentage(int amount, int totalExpense) {
+        return totalExpense == 0 ? 0.0 : round1(amount * 100.0 / totalExpense);
+    }
+
+    private double round1(double v) { return Math.round(v * 10.0) / 10.0; }
+
+    private String toKoreanPaymentName(String method) {
+        if (method == null) return "기타";
+        switch (method) {
+            case "CREDIT_CARD": return "신용카드";
+            case "DEBIT_CARD":  return "체크카드";
+            case "CASH":        return "현금";
+            case "TRANSFER":    return "계좌이체";
+            default:            return "기타";
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.darong.malgage_api.repository.statistics;
+
+import com.darong.malgage_api.domain.statistics.StatisticsRollupDelta;
+import com.darong.malgage_api.domain.statistics.StatisticsRollupKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월간 롤업 증감 일괄 반영 전용 JDBC 저장소
+ * - 할부 기록 하나가 수십 개 롤업 행에 걸치므로, 행마다 upsert 를 보내지 않고
+ *   multi-row INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로 CHUNK_SIZE 행씩 반영
+ * - 넣으려던 값은 행 별칭(AS new)으로 참조 (VALUES(col) 은 MySQL 8.0.20 부터 deprecated, 별칭은 8.0.19+)
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatisticsRollupJdbcRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private static final String UPSERT_PREFIX = """
+            INSERT INTO statistics_monthly_rollup
+                (user_id, stat_month, type, category_id, emotion_id, payment_method, is_installment, amount, record_count)
+            VALUES\s""";
+    private static final String UPSERT_VALUES = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = """
+            \sAS new
+            ON DUPLICATE KEY UPDATE
+                amount = amount + new.amount,
+                record_count = record_count + new.record_count""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 증감분 일괄 반영 (행이 없으면 생성)
+     */
+    public void upsertAll(Long userId, Map<StatisticsRollupKey, StatisticsRollupDelta.Change> changes) {
+        List<Map.Entry<StatisticsRollupKey, StatisticsRollupDelta.Change>> entries = new ArrayList<>(changes.entrySet());
+
+        for (int from = 0; from < entries.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<StatisticsRollupKey, StatisticsRollupDelta.Change>> chunk =
+                    entries.subList(from, Math.min(from + CHUNK_SIZE, entries.size()));
+            String sql = UPSERT_PREFIX
+                    + String.join(", ", Collections.nCopies(chunk.size(), UPSERT_VALUES))
+                    + UPSERT_SUFFIX;
+
+            jdbcTemplate.update(sql, ps -> {
+                int i = 1;
+                for (Map.Entry<StatisticsRollupKey, StatisticsRollupDelta.Change> entry : chunk) {
+                    StatisticsRollupKey key = entry.getKey();
+                    ps.setLong(i++, userId);
+                    ps.setInt(i++, key.statMonth());
+                    ps.setString(i++, key.type().name());
+                    if (key.categoryId() != null) {
+                        ps.setLong(i++, key.categoryId());
+                    } else {
+                        ps.setNull(i++, Types.BIGINT);
+                    }
+                    if (key.emotionId() != null) {
+                        ps.setLong(i++, key.emotionId());
+                    } else {
+                        ps.setNull(i++, Types.BIGINT);
+                    }
+                    ps.setString(i++, key.paymentMethod());
+                    ps.setBoolean(i++, key.installment());
+                    ps.setLong(i++, entry.getValue().getAmount());
+                    ps.setInt(i++, entry.getValue().getCount());
+                }
+            });
+        }
+    }
+}
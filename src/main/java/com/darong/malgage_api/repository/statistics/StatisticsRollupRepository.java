@@ -0,0 +1,33 @@
+package com.darong.malgage_api.repository.statistics;
+
+import com.darong.malgage_api.domain.statistics.StatisticsRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StatisticsRollupRepository extends JpaRepository<StatisticsRollup, Long> {
+
+    /**
+     * 차감 결과 0건이 된 행 정리
+     */
+    @Modifying
+    @Query("delete from StatisticsRollup r where r.userId = :userId and r.recordCount <= 0")
+    void deleteEmptyRows(@Param("userId") Long userId);
+
+    /**
+     * 기존 일반 기록으로 롤업 초기 적재
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO statistics_monthly_rollup
+                (user_id, stat_month, type, category_id, emotion_id, payment_method, is_installment, amount, record_count)
+            SELECT r.user_id, YEAR(r.date) * 100 + MONTH(r.date), r.type, r.category_id, r.emotion_id,
+                   COALESCE(r.payment_method, ''), false, SUM(r.amount), COUNT(*)
+            FROM record r
+            WHERE r.is_installment = false
+            GROUP BY r.user_id, YEAR(r.date) * 100 + MONTH(r.date), r.type, r.category_id, r.emotion_id,
+                     COALESCE(r.payment_method, '')
+            """, nativeQuery = true)
+    int backfillNormalRecords();
+}
@@ -0,0 +1,22 @@
+package com.darong.malgage_api.repository.sync;
+
+import com.darong.malgage_api.domain.sync.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    List<SyncTombstone> findByUserIdAndDeletedAtGreaterThanEqual(Long userId, LocalDateTime since);
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리 (idx_tombstone_deleted 사용)
+     */
+    @Modifying
+    @Query("delete from SyncTombstone t where t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") LocalDateTime before);
+}
@@ -9,8 +9,13 @@ import com.darong.malgage_api.global.exception.NotFoundException;
 import com.darong.malgage_api.repository.category.CategoryQueryRepository;
 import com.darong.malgage_api.repository.category.CategoryRepository;
 import com.darong.malgage_api.repository.category.UserCategoryVisibilityRepository;
+import com.darong.malgage_api.repository.sync.SyncTombstoneRepository;
+import com.darong.malgage_api.domain.sync.SyncEntityType;
+import com.darong.malgage_api.domain.sync.SyncTombstone;
 import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.domain.user.UserCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +35,8 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final UserCategoryVisibilityRepository visibilityRepository;
     private final CategoryQueryRepository categoryQueryRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자의 모든 카테고리 조회 (기본 + 커스텀)
@@ -73,6 +80,7 @@ public class CategoryService {
         );
 
         Category saved = categoryRepository.save(category);
+        eventPublisher.publishEvent(new UserCatalogChangedEvent(user.getId()));
         return CategoryResponseDto.from(saved);
     }
 
@@ -101,6 +109,7 @@ public class CategoryService {
         }
 
         visibilityRepository.save(visibility);
+        eventPublisher.publishEvent(new UserCatalogChangedEvent(user.getId()));
     }
 
     /**
@@ -118,6 +127,8 @@ public class CategoryService {
         }
 
         category.markAsDeleted();  // isDeleted = true 로 변경
+        syncTombstoneRepository.save(SyncTombstone.of(user.getId(), SyncEntityType.CATEGORY, categoryId));
+        eventPublisher.publishEvent(new UserCatalogChangedEvent(user.getId()));
     }
 
 
@@ -11,8 +11,13 @@ import com.darong.malgage_api.global.exception.NotFoundException;
 import com.darong.malgage_api.repository.emotion.EmotionQueryRepository;
 import com.darong.malgage_api.repository.emotion.EmotionRepository;
 import com.darong.malgage_api.repository.emotion.UserEmotionVisibilityRepository;
+import com.darong.malgage_api.repository.sync.SyncTombstoneRepository;
+import com.darong.malgage_api.domain.sync.SyncEntityType;
+import com.darong.malgage_api.domain.sync.SyncTombstone;
 import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.domain.user.UserCatalogChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +33,8 @@ public class EmotionService {
     private final EmotionRepository emotionRepository;
     private final EmotionQueryRepository emotionQueryRepository;
     private final UserEmotionVisibilityRepository visibilityRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자의 모든 감정 조회 (기본 + 커스텀)
@@ -72,6 +79,7 @@ public class EmotionService {
         );
 
         Emotion saved = emotionRepository.save(emotion);
+        eventPublisher.publishEvent(new UserCatalogChangedEvent(user.getId()));
         return EmotionResponseDto.from(saved);
     }
 
@@ -100,6 +108,7 @@ public class EmotionService {
         }
 
         visibilityRepository.save(visibility);
+        eventPublisher.publishEvent(new UserCatalogChangedEvent(user.getId()));
     }
 
     @Transactional
@@ -115,7 +124,10 @@ public class EmotionService {
             throw new AccessDeniedException("본인의 카테고리만 삭제할 수 있습니다.");
         }
 
+        // 삭제 기록을 먼저 남김 (RecordService.deleteRecord 와 같은 순서)
+        syncTombstoneRepository.save(SyncTombstone.of(user.getId(), SyncEntityType.EMOTION, emotionId));
         emotionRepository.delete(emotion);
+        eventPublisher.publishEvent(new UserCatalogChangedEvent(user.getId()));
     }
 
     /**
@@ -133,6 +145,8 @@ public class EmotionService {
         }
 
         emotion.markAsDeleted();  // isDeleted = true 로 변경
+        syncTombstoneRepository.save(SyncTombstone.of(user.getId(), SyncEntityType.EMOTION, emotionId));
+        eventPublisher.publishEvent(new UserCatalogChangedEvent(user.getId()));
     }
 
 }
\ No newline at end of file
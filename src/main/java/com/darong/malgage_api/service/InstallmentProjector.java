@@ -0,0 +1,135 @@
+package com.darong.malgage_api.service;
+
+import com.darong.malgage_api.controller.dto.response.record.RecordResponseDto;
+import com.darong.malgage_api.domain.record.InstallmentPlan;
+import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.repository.record.RecordQueryRepository;
+import com.darong.malgage_api.repository.record.RecordQueryRepository.InstallmentRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 할부 회차 조회
+ * - 회차 행을 저장하지 않고, 조회 구간에 걸리는 할부 기록만 읽어 InstallmentPlan 으로 회차를 계산
+ * - 할부 기록은 엔티티가 아닌 응답 DTO projection 으로 읽음
+ */
+@Component
+@RequiredArgsConstructor
+public class InstallmentProjector {
+
+    private static final int READ_CHUNK_SIZE = 50;
+
+    private final RecordQueryRepository recordQueryRepository;
+
+    /**
+     * 할부 기록 행 + 계산된 회차
+     */
+    public record ProjectedInstallment(RecordResponseDto row, InstallmentPlan.Installment installment) {
+
+        public LocalDateTime scheduledDate() {
+            return installment.scheduledDate();
+        }
+
+        public Long recordId() {
+            return row.getId();
+        }
+
+        public RecordResponseDto toResponse() {
+            return row.withInstallment(installment);
+        }
+    }
+
+    private static final Comparator<ProjectedInstallment> LATEST_FIRST =
+            Comparator.comparing(ProjectedInstallment::scheduledDate)
+                    .thenComparing(ProjectedInstallment::recordId)
+                    .reversed();
+
+    /**
+     * 구간 [from, to] 의 회차 (납부일 오름차순)
+     */
+    public List<ProjectedInstallment> between(User user, LocalDateTime from, LocalDateTime to) {
+        List<ProjectedInstallment> result = new ArrayList<>();
+        for (RecordResponseDto row : recordQueryRepository.findInstallmentsOverlapping(user, from, to)) {
+            InstallmentPlan plan = InstallmentPlan.of(row.getDate(), row.getAmount(), row.getInstallmentMonths());
+            if (plan == null) {
+                continue;
+            }
+            for (InstallmentPlan.Installment installment : plan.between(from, to)) {
+                result.add(new ProjectedInstallment(row, installment));
+            }
+        }
+        result.sort(Comparator.comparing(ProjectedInstallment::scheduledDate));
+        return result;
+    }
+
+    /**
+     * 커서 이전의 회차를 (납부일, 기록 id) 내림차순으로 limit 건
+     * - 회차 응답의 id 는 Record id 이므로 커서 비교도 Record id 기준
+     * - 할부 기록을 마지막 회차 납부일 내림차순으로 읽음: 기록의 회차는 모두 마지막 회차 납부일 이전이므로,
+     *   이미 limit 건을 모았고 다음 기록의 마지막 회차 납부일이 limit 번째 회차보다 이르면 나머지 기록은 볼 필요 없음
+     * - 보통 첫 묶음(READ_CHUNK_SIZE 이상)에서 끝나므로 쿼리 1번
+     */
+    public List<ProjectedInstallment> before(User user, LocalDateTime from, LocalDateTime to,
+                                             LocalDateTime cursorDate, Long cursorId, int limit) {
+        LocalDateTime upper = to;
+        if (cursorDate != null && (upper == null || cursorDate.isBefore(upper))) {
+            upper = cursorDate;
+        }
+
+        int chunkSize = Math.max(limit, READ_CHUNK_SIZE);
+        List<ProjectedInstallment> candidates = new ArrayList<>();
+        LocalDateTime afterEndDate = null;
+        Long afterId = null;
+        while (true) {
+            List<InstallmentRow> rows = recordQueryRepository
+                    .findInstallmentsByEndDateDesc(user, from, upper, afterEndDate, afterId, chunkSize);
+            for (InstallmentRow installmentRow : rows) {
+                if (isFull(candidates, limit, installmentRow.endDate())) {
+                    return candidates.subList(0, limit);
+                }
+                RecordResponseDto row = installmentRow.row();
+                InstallmentPlan plan = InstallmentPlan.of(row.getDate(), row.getAmount(), row.getInstallmentMonths());
+                if (plan != null) {
+                    for (InstallmentPlan.Installment installment : plan.between(from, upper)) {
+                        ProjectedInstallment projected = new ProjectedInstallment(row, installment);
+                        if (isBeforeCursor(projected, cursorDate, cursorId)) {
+                            candidates.add(projected);
+                        }
+                    }
+                }
+                afterEndDate = installmentRow.endDate();
+                afterId = row.getId();
+            }
+            if (rows.size() < chunkSize) {
+                break;
+            }
+        }
+        candidates.sort(LATEST_FIRST);
+        return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+    }
+
+    /**
+     * limit 건이 모였고, 마지막 회차 납부일이 nextEndDate 인 기록이 limit 번째 회차보다 앞설 수 없으면 true
+     * (candidates 를 최신순으로 정렬해 둠)
+     */
+    private boolean isFull(List<ProjectedInstallment> candidates, int limit, LocalDateTime nextEndDate) {
+        if (candidates.size() < limit) {
+            return false;
+        }
+        candidates.sort(LATEST_FIRST);
+        return nextEndDate.isBefore(candidates.get(limit - 1).scheduledDate());
+    }
+
+    private boolean isBeforeCursor(ProjectedInstallment projected, LocalDateTime cursorDate, Long cursorId) {
+        if (cursorDate == null) {
+            return true;
+        }
+        int compared = projected.scheduledDate().compareTo(cursorDate);
+        return compared < 0 || (compared == 0 && projected.recordId() < cursorId);
+    }
+}
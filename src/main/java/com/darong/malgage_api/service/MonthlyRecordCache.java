@@ -0,0 +1,139 @@
+package com.darong.malgage_api.service;
+
+import com.darong.malgage_api.controller.dto.response.record.RecordResponseDto;
+import com.darong.malgage_api.global.cache.RecordCacheProperties;
+import com.darong.malgage_api.global.cache.UserVersionRegistry;
+import com.darong.malgage_api.global.cache.VersionScope;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 월별 기록 목록 캐시 (/api/records/by-month)
+ * - 대부분의 조회가 이번 달/지난달이므로 최근 hotMonths 개월만 캐시
+ * - key: (userId, 월, 카탈로그 버전) → 카테고리/감정 이름이 바뀌면 자동으로 miss
+ * - 생성/수정/삭제는 커밋 이후 캐시된 월의 목록을 직접 고침 (write-through, 할부는 회차가 걸친 모든 월)
+ * - 커밋 직전에 읽은 옛 목록이 캐시에 들어가지 않도록, 읽기 전 RECORDS 버전을 기억해 두고
+ *   저장 시점에 버전이 바뀌었으면 저장하지 않음
+ *   (RECORDS 버전은 UserVersionUpdater 도 올리지만, 목록을 고치기 직전에 올려야 하므로 여기서도 올림)
+ * - 적중률 등 지표는 cache.* (name=records.monthly) 로 노출
+ */
+@Component
+public class MonthlyRecordCache {
+
+    private static final String CACHE_NAME = "records.monthly";
+
+    private static final Comparator<RecordResponseDto> LATEST_FIRST =
+            Comparator.comparing(RecordResponseDto::getDate).reversed();
+
+    private final UserVersionRegistry userVersionRegistry;
+    private final RecordCacheProperties properties;
+    private final Cache<Key, List<RecordResponseDto>> cache;
+
+    private record Key(Long userId, YearMonth month, long catalogVersion) {}
+
+    public MonthlyRecordCache(UserVersionRegistry userVersionRegistry, RecordCacheProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.userVersionRegistry = userVersionRegistry;
+        this.properties = properties;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 읽어서 저장 (캐시 대상이 아닌 월은 항상 loader)
+     */
+    public List<RecordResponseDto> get(Long userId, YearMonth month, Supplier<List<RecordResponseDto>> loader) {
+        if (!isHot(month)) {
+            return loader.get();
+        }
+
+        Key key = keyOf(userId, month);
+        List<RecordResponseDto> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long version = userVersionRegistry.current(VersionScope.RECORDS, userId);
+        List<RecordResponseDto> loaded = List.copyOf(loader.get());
+        cache.asMap().compute(key, (k, existing) ->
+                userVersionRegistry.current(VersionScope.RECORDS, userId) == version ? loaded : existing);
+        return loaded;
+    }
+
+    /**
+     * 기록 한 건의 변경을 커밋 이후 캐시된 월에 반영
+     * @param rows 변경 후 그 기록이 각 월에 보여야 할 행 (삭제됐거나 그 달에 없으면 빈 목록)
+     */
+    public void writeThrough(Long userId, Long recordId, Map<YearMonth, List<RecordResponseDto>> rows) {
+        afterCommit(() -> {
+            userVersionRegistry.bump(VersionScope.RECORDS, userId);
+            rows.forEach((month, monthRows) -> cache.asMap().computeIfPresent(keyOf(userId, month),
+                    (k, existing) -> patch(existing, recordId, monthRows)));
+        });
+    }
+
+    /**
+     * 여러 기록이 한꺼번에 바뀐 경우 (대량 등록) 해당 월을 커밋 이후 제거
+     */
+    public void evict(Long userId, Collection<YearMonth> months) {
+        afterCommit(() -> {
+            userVersionRegistry.bump(VersionScope.RECORDS, userId);
+            months.forEach(month -> cache.invalidate(keyOf(userId, month)));
+        });
+    }
+
+    /**
+     * 캐시 대상 월 여부 (이번 달 ~ hotMonths-1 개월 전)
+     */
+    public boolean isHot(YearMonth month) {
+        YearMonth now = YearMonth.now();
+        return !month.isAfter(now) && !month.isBefore(now.minusMonths(properties.getHotMonths() - 1L));
+    }
+
+    private Key keyOf(Long userId, YearMonth month) {
+        return new Key(userId, month, userVersionRegistry.current(VersionScope.CATALOG, userId));
+    }
+
+    private static List<RecordResponseDto> patch(List<RecordResponseDto> existing, Long recordId,
+                                                 List<RecordResponseDto> rows) {
+        List<RecordResponseDto> patched = new ArrayList<>(existing.size() + rows.size());
+        for (RecordResponseDto dto : existing) {
+            if (!recordId.equals(dto.getId())) {
+                patched.add(dto);
+            }
+        }
+        patched.addAll(rows);
+        patched.sort(LATEST_FIRST);
+        return List.copyOf(patched);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
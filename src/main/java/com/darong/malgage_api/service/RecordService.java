@@ -1,36 +1,47 @@
 // domain/record/RecordService.java
 package com.darong.malgage_api.service;
 
+import com.darong.malgage_api.controller.dto.request.record.RecordBulkSaveRequestDto;
 import com.darong.malgage_api.controller.dto.request.record.RecordSaveRequestDto;
 import com.darong.malgage_api.controller.dto.request.record.RecordUpdateRequestDto;
+import com.darong.malgage_api.controller.dto.response.record.RecordBulkSaveResponseDto;
+import com.darong.malgage_api.controller.dto.response.record.RecordPageResponseDto;
 import com.darong.malgage_api.controller.dto.response.record.RecordResponseDto;
 import com.darong.malgage_api.domain.category.Category;
 import com.darong.malgage_api.domain.emotion.Emotion;
-import com.darong.malgage_api.domain.record.InstallmentSchedule;
+import com.darong.malgage_api.domain.record.InstallmentPlan;
 import com.darong.malgage_api.domain.record.Record;
+import com.darong.malgage_api.domain.record.RecordChangedEvent;
+import com.darong.malgage_api.domain.statistics.StatisticsRollupDelta;
+import com.darong.malgage_api.domain.sync.SyncEntityType;
+import com.darong.malgage_api.domain.sync.SyncTombstone;
 import com.darong.malgage_api.global.exception.NotFoundException;
 import com.darong.malgage_api.global.exception.UnauthorizedException;
 import com.darong.malgage_api.repository.category.CategoryRepository;
 import com.darong.malgage_api.repository.emotion.EmotionRepository;
-import com.darong.malgage_api.repository.record.InstallmentScheduleQueryRepository;
-import com.darong.malgage_api.repository.record.InstallmentScheduleRepository;
+import com.darong.malgage_api.repository.record.RecordBulkJdbcRepository;
 import com.darong.malgage_api.repository.record.RecordQueryRepository;
 import com.darong.malgage_api.repository.record.RecordRepository;
+import com.darong.malgage_api.repository.sync.SyncTombstoneRepository;
 import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.service.InstallmentProjector.ProjectedInstallment;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -43,8 +54,17 @@ public class RecordService {
     private final RecordQueryRepository recordQueryRepository;
     private final CategoryRepository categoryRepository;
     private final EmotionRepository emotionRepository;
-    private final InstallmentScheduleRepository installmentScheduleRepository;
-    private final InstallmentScheduleQueryRepository installmentScheduleQueryRepository;
+    private final InstallmentProjector installmentProjector;
+    private final MonthlyRecordCache monthlyRecordCache;
+    private final RecordBulkJdbcRepository recordBulkJdbcRepository;
+    private final StatisticsRollupService statisticsRollupService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BULK_SIZE = RecordBulkSaveRequestDto.MAX_RECORDS;
+    private static final int MAX_MEMO_LENGTH = 500;     // record.memo 컬럼 길이
 
     @Transactional
     public void createRecord(User user, RecordSaveRequestDto dto) {
@@ -70,10 +90,7 @@ public class RecordService {
 
             recordRepository.save(record);
 
-            if (dto.isInstallment()) {
-                List<InstallmentSchedule> schedules = createInstallmentSchedules(record);
-                installmentScheduleRepository.saveAll(schedules);
-            }
+            applyChange(user, new StatisticsRollupDelta().add(record), record.getId(), record);
 
         } catch (Exception e) {
             log.error("💥 Record 저장 중 에러 발생: dto={}, userId={}", dto, user.getId(), e);
@@ -82,6 +99,94 @@ public class RecordService {
     }
 
 
+    /**
+     * 가계부 기록 대량 등록
+     * - 카테고리/감정은 요청 전체의 id를 모아 각각 한 번씩만 조회
+     * - 검증에 실패한 행은 건너뛰고 index 와 사유를 응답에 담음 (나머지 행은 저장)
+     * - 기록은 multi-row INSERT 로 저장하고, 통계 롤업도 전체 증감분(할부는 계산된 회차)을 한 번에 반영
+     */
+    @Transactional
+    public RecordBulkSaveResponseDto createRecordsInBulk(User user, RecordBulkSaveRequestDto dto) {
+        List<RecordSaveRequestDto> rows = dto.getRecords() == null ? List.of() : dto.getRecords();
+        if (rows.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 기록은 최대 " + MAX_BULK_SIZE + "건입니다.");
+        }
+
+        Map<Long, Category> categories = categoryRepository.findAllById(
+                        rows.stream().filter(Objects::nonNull).map(RecordSaveRequestDto::getCategoryId)
+                                .filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<Long, Emotion> emotions = emotionRepository.findAllById(
+                        rows.stream().filter(Objects::nonNull).map(RecordSaveRequestDto::getEmotionId)
+                                .filter(Objects::nonNull).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Emotion::getId, Function.identity()));
+
+        List<Record> records = new ArrayList<>(rows.size());
+        List<RecordBulkSaveResponseDto.RowError> errors = new ArrayList<>();
+
+        for (int index = 0; index < rows.size(); index++) {
+            RecordSaveRequestDto row = rows.get(index);
+            try {
+                records.add(toBulkRecord(user, row, categories, emotions));
+            } catch (IllegalArgumentException | NotFoundException e) {
+                errors.add(new RecordBulkSaveResponseDto.RowError(index, e.getMessage()));
+            }
+        }
+
+        List<Long> ids = recordBulkJdbcRepository.insertRecords(user.getId(), records);
+        if (ids.size() != records.size()) {
+            throw new IllegalStateException("저장된 기록 수가 일치하지 않습니다. expected="
+                    + records.size() + ", actual=" + ids.size());
+        }
+
+        StatisticsRollupDelta delta = new StatisticsRollupDelta();
+        records.forEach(delta::add);
+        applyChange(user, delta);
+        monthlyRecordCache.evict(user.getId(), delta.getTouchedMonths());
+
+        log.info("📦 기록 대량 등록 완료: userId={}, 요청={}건, 저장={}건, 실패={}건",
+                user.getId(), rows.size(), records.size(), errors.size());
+        return new RecordBulkSaveResponseDto(rows.size(), records.size(), errors);
+    }
+
+    private Record toBulkRecord(User user, RecordSaveRequestDto row,
+                                Map<Long, Category> categories, Map<Long, Emotion> emotions) {
+        // DB 제약 위반은 multi-row INSERT 전체를 롤백시키므로, 필수값/길이 제약은 여기서 행 단위로 미리 검사
+        // (금액/타입/날짜는 Record.create 가 검사)
+        if (row == null) {
+            throw new IllegalArgumentException("빈 행입니다.");
+        }
+        if (row.getMemo() != null && row.getMemo().length() > MAX_MEMO_LENGTH) {
+            throw new IllegalArgumentException("메모는 " + MAX_MEMO_LENGTH + "자를 초과할 수 없습니다.");
+        }
+        Category category = categories.get(row.getCategoryId());
+        if (category == null) {
+            throw new NotFoundException("카테고리를 찾을 수 없습니다.");
+        }
+        Emotion emotion = emotions.get(row.getEmotionId());
+        if (emotion == null) {
+            throw new NotFoundException("감정을 찾을 수 없습니다.");
+        }
+        if (row.isInstallment() && row.getInstallmentMonths() <= 0) {
+            throw new IllegalArgumentException("할부 개월 수는 1 이상이어야 합니다.");
+        }
+
+        return Record.create(
+                row.getAmount(),
+                row.getType(),
+                row.getDate(),
+                category,
+                emotion,
+                row.getPaymentMethod(),
+                row.isInstallment(),
+                row.getInstallmentMonths(),
+                row.getMemo(),
+                user
+        );
+    }
+
     @Transactional
     public RecordResponseDto updateRecord(User user, RecordUpdateRequestDto dto) {
         Record record = recordRepository.findById(dto.getId())
@@ -104,9 +209,10 @@ public class RecordService {
                     .orElseThrow(() -> new NotFoundException("Emotion not found"));
         }
 
-        // 기존 할부 스케줄 삭제 (수정 전에 항상 제거)
-        installmentScheduleRepository.deleteByRecord(record);
+        // 통계 롤업: 수정 전 상태 차감 (record.update() 이전에 key 계산)
+        StatisticsRollupDelta rollupDelta = new StatisticsRollupDelta().subtract(record);
 
+        // 할부 회차는 저장하지 않으므로 기록 값만 바꾸면 됨 (마지막 회차 납부일은 update 에서 재계산)
         record.update(
                 dto.getAmount(),
                 dto.getType(),
@@ -119,11 +225,8 @@ public class RecordService {
                 dto.getMemo()
         );
 
-        // 수정된 값이 할부라면 새 스케줄 생성
-        if (dto.isInstallment()) {
-            List<InstallmentSchedule> schedules = createInstallmentSchedules(record);
-            installmentScheduleRepository.saveAll(schedules);
-        }
+        // 통계 롤업: 수정 후 상태 가산 (같은 key는 상계되어 바뀐 행만 반영)
+        applyChange(user, rollupDelta.add(record), record.getId(), record);
 
         // 수정된 엔티티를 DTO로 변환 후 반환
         return RecordResponseDto.from(record);
@@ -138,11 +241,11 @@ public class RecordService {
             throw new AccessDeniedException("본인의 기록만 삭제할 수 있습니다.");
         }
 
-        // 기록이 할부일 경우 할부 스케쥴 먼저 삭제
-        if (record.getIsInstallment()) {
-            installmentScheduleRepository.deleteByRecord(record);
-        }
+        applyChange(user, new StatisticsRollupDelta().subtract(record), record.getId(), null);
 
+        // 삭제 기록을 먼저 저장: 지금은 같은 트랜잭션이라 함께 커밋/롤백되지만,
+        // 트랜잭션 경계가 바뀌어도 기록은 지워졌는데 삭제 기록이 없어 동기화에서 빠지는 일이 없도록
+        syncTombstoneRepository.save(SyncTombstone.of(user.getId(), SyncEntityType.RECORD, recordId));
         recordRepository.delete(record);
     }
 
@@ -160,23 +263,23 @@ public class RecordService {
 
     /**
      * 월별 가계부 기록 조회
+     * - 이번 달/지난달은 MonthlyRecordCache 에서 (쓰기 시 캐시가 함께 갱신됨)
      */
     public List<RecordResponseDto> getMonthlyRecords(User user, int year, int month) {
-        LocalDateTime start = LocalDateTime.of(year, month, 1, 0, 0);
-        LocalDateTime end = start.withDayOfMonth(start.toLocalDate().lengthOfMonth())
-                .withHour(23).withMinute(59).withSecond(59);
-
-        // 일반 기록 조회
-        List<Record> normalRecords = recordQueryRepository.findRecordsByUserAndDateBetween(user, start, end);
-        List<RecordResponseDto> normalDtos = normalRecords.stream()
-                .map(RecordResponseDto::from)
-                .toList();
+        YearMonth ym = YearMonth.of(year, month);
+        return monthlyRecordCache.get(user.getId(), ym, () -> loadMonthlyRecords(user, ym));
+    }
+
+    private List<RecordResponseDto> loadMonthlyRecords(User user, YearMonth ym) {
+        LocalDateTime start = monthStart(ym);
+        LocalDateTime end = monthEnd(ym);
 
-        // 할부 회차 기록 조회 (InstallmentSchedule 기준으로!)
-        List<InstallmentSchedule> schedules = installmentScheduleQueryRepository
-                .findByUserAndScheduledDateBetween(user, start, end);
-        List<RecordResponseDto> installmentDtos = schedules.stream()
-                .map(RecordResponseDto::fromInstallment)
+        // 일반 기록 조회 (DTO projection)
+        List<RecordResponseDto> normalDtos = recordQueryRepository.findRecordsByUserAndDateBetween(user, start, end);
+
+        // 할부 회차 (이번 달에 걸리는 할부 기록만 읽어 회차 계산)
+        List<RecordResponseDto> installmentDtos = installmentProjector.between(user, start, end).stream()
+                .map(ProjectedInstallment::toResponse)
                 .toList();
 
         // 두 결과 합침 후 정렬
@@ -191,32 +294,120 @@ public class RecordService {
     }
 
 
-    public List<InstallmentSchedule> createInstallmentSchedules(Record record) {
-        List<InstallmentSchedule> result = new ArrayList<>();
-        int monthlyAmount = record.getAmount() / record.getInstallmentMonths();
+    /**
+     * 커서 기반 기록 목록 조회 (날짜 내림차순, 같은 날짜는 id 내림차순)
+     * - 일반 기록 / 할부 회차를 각각 커서 이후 size + 1 건만 읽어 두 정렬 목록을 병합
+     * - 월 전체를 읽어 정렬하던 by-month 와 달리 첫 화면 비용이 월 기록 수와 무관
+     * - year/month 를 주면 해당 월로 범위 제한
+     */
+    public RecordPageResponseDto getRecordPage(User user, Integer year, Integer month,
+                                               LocalDateTime cursorDate, Long cursorId, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Long cursorRecordId = (cursorDate != null && cursorId == null) ? Long.MAX_VALUE : cursorId;
+
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        if (year != null && month != null) {
+            YearMonth ym = YearMonth.of(year, month);
+            from = ym.atDay(1).atStartOfDay();
+            to = ym.atEndOfMonth().atTime(23, 59, 59);
+        }
 
-        for (int i = 0; i < record.getInstallmentMonths(); i++) {
-            LocalDateTime scheduledDate = calculateInstallmentDate(record.getDate(), i);
-            result.add(InstallmentSchedule.create(record, i + 1, scheduledDate, monthlyAmount));
+        int limit = pageSize + 1;
+        List<RecordResponseDto> normalRecords = recordQueryRepository
+                .findRecordsBefore(user, from, to, cursorDate, cursorRecordId, limit);
+        List<ProjectedInstallment> schedules = installmentProjector
+                .before(user, from, to, cursorDate, cursorRecordId, limit);
+
+        // 두 목록 모두 (date, id) 내림차순이므로 앞에서부터 큰 쪽을 하나씩 꺼내 병합
+        List<RecordResponseDto> page = new ArrayList<>(pageSize);
+        int i = 0;
+        int j = 0;
+        while (page.size() < pageSize && (i < normalRecords.size() || j < schedules.size())) {
+            boolean takeNormal = j >= schedules.size()
+                    || (i < normalRecords.size() && isAfter(
+                            normalRecords.get(i).getDate(), normalRecords.get(i).getId(),
+                            schedules.get(j).scheduledDate(), schedules.get(j).recordId()));
+            page.add(takeNormal
+                    ? normalRecords.get(i++)
+                    : schedules.get(j++).toResponse());
         }
 
-        return result;
+        boolean hasNext = i < normalRecords.size() || j < schedules.size();
+        RecordResponseDto last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return new RecordPageResponseDto(
+                page,
+                hasNext,
+                hasNext ? last.getDate() : null,
+                hasNext ? last.getId() : null
+        );
     }
 
-    private LocalDateTime calculateInstallmentDate(LocalDateTime baseDateTime, int monthOffset) {
-        LocalDate baseDate = baseDateTime.toLocalDate();
-        LocalDate targetDate = baseDate.plusMonths(monthOffset);
+    private boolean isAfter(LocalDateTime date, Long id, LocalDateTime otherDate, Long otherId) {
+        int compared = date.compareTo(otherDate);
+        return compared != 0 ? compared > 0 : id > otherId;
+    }
 
-        int dayOfMonth = baseDate.getDayOfMonth();
-        int lastDayOfMonth = targetDate.lengthOfMonth();
+    /**
+     * 기록 변경분을 통계 롤업에 반영하고, 커밋 후 캐시 무효화를 위한 이벤트 발행
+     */
+    private void applyChange(User user, StatisticsRollupDelta delta) {
+        statisticsRollupService.apply(user.getId(), delta);
+        eventPublisher.publishEvent(new RecordChangedEvent(user.getId(), delta.getTouchedMonths()));
+    }
 
-        // 실제 존재하는 날짜로 보정
-        LocalDate correctedDate = targetDate.withDayOfMonth(Math.min(dayOfMonth, lastDayOfMonth));
+    /**
+     * 기록 한 건 변경: 롤업/이벤트 반영 + 월별 기록 캐시 write-through
+     * @param changed 변경 후 기록 (삭제면 null), 트랜잭션 안에서 DTO 로 만들어 둠
+     */
+    private void applyChange(User user, StatisticsRollupDelta delta, Long recordId, Record changed) {
+        applyChange(user, delta);
 
-        return correctedDate.atTime(baseDateTime.toLocalTime());  // 시간도 유지
+        Map<YearMonth, List<RecordResponseDto>> rows = new HashMap<>();
+        for (YearMonth month : delta.getTouchedMonths()) {
+            if (monthlyRecordCache.isHot(month)) {
+                rows.put(month, changed == null ? List.of() : monthlyRows(changed, month));
+            }
+        }
+        if (!rows.isEmpty()) {
+            monthlyRecordCache.writeThrough(user.getId(), recordId, rows);
+        }
     }
 
+    /**
+     * 기록이 해당 월의 목록에 보이는 행 (할부는 그 달의 회차)
+     */
+    private List<RecordResponseDto> monthlyRows(Record record, YearMonth month) {
+        if (record.hasInstallment()) {
+            InstallmentPlan plan = InstallmentPlan.of(record);
+            if (plan == null) {
+                return List.of();
+            }
+            return plan.between(monthStart(month), monthEnd(month)).stream()
+                    .map(installment -> RecordResponseDto.fromInstallment(record, installment))
+                    .toList();
+        }
+        return YearMonth.from(record.getDate()).equals(month)
+                ? List.of(RecordResponseDto.from(record))
+                : List.of();
+    }
 
+    private static LocalDateTime monthStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
 
+    private static LocalDateTime monthEnd(YearMonth month) {
+        return month.atEndOfMonth().atTime(23, 59, 59);
+    }
 
-}
\ No newline at end of file
+    /**
+     * 마지막 할부 회차 납부일 채우기 (컬럼 추가 이전에 저장된 할부 기록)
+     * @return 갱신한 기록 수
+     */
+    @Transactional
+    public int backfillInstallmentEndDates() {
+        List<Record> records = recordRepository.findByIsInstallmentTrueAndInstallmentEndDateIsNull();
+        records.forEach(Record::refreshInstallmentEndDate);
+        return records.size();
+    }
+}
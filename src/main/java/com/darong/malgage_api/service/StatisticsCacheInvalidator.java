@@ -0,0 +1,40 @@
+package com.darong.malgage_api.service;
+
+import com.darong.malgage_api.controller.dto.response.statistics.StatisticsResponseDto;
+import com.darong.malgage_api.domain.record.RecordChangedEvent;
+import com.darong.malgage_api.domain.statistics.StatisticsCacheKey;
+import com.darong.malgage_api.global.cache.TwoLevelCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.YearMonth;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 기록 변경 시 통계 캐시 무효화
+ * - 커밋 이후에만 지워서, 커밋 전 다른 요청이 옛 값을 다시 캐시하는 경우를 막음
+ * - 변경된 월 M 뿐 아니라 M+1 월도 지움 (M+1 월 통계의 "지난달 지출"이 M 월 값이므로)
+ * - 연간도 같은 이유로 해당 연도 + 다음 연도를 지움
+ */
+@Component
+@RequiredArgsConstructor
+public class StatisticsCacheInvalidator {
+
+    private final TwoLevelCache<StatisticsCacheKey, StatisticsResponseDto> statisticsCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordChanged(RecordChangedEvent event) {
+        Set<StatisticsCacheKey> keys = new LinkedHashSet<>();
+        for (YearMonth month : event.months()) {
+            YearMonth next = month.plusMonths(1);
+            keys.add(StatisticsCacheKey.monthly(event.userId(), month.getYear(), month.getMonthValue()));
+            keys.add(StatisticsCacheKey.monthly(event.userId(), next.getYear(), next.getMonthValue()));
+            keys.add(StatisticsCacheKey.yearly(event.userId(), month.getYear()));
+            keys.add(StatisticsCacheKey.yearly(event.userId(), month.getYear() + 1));
+        }
+        keys.forEach(statisticsCache::evict);
+    }
+}
@@ -0,0 +1,89 @@
+package com.darong.malgage_api.service;
+
+import com.darong.malgage_api.domain.record.Record;
+import com.darong.malgage_api.domain.statistics.StatisticsRollupDelta;
+import com.darong.malgage_api.repository.record.RecordRepository;
+import com.darong.malgage_api.repository.statistics.StatisticsRollupJdbcRepository;
+import com.darong.malgage_api.repository.statistics.StatisticsRollupRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월간 통계 롤업 관리
+ * - RecordService 쓰기 트랜잭션 안에서 호출되어 기록 변경분을 롤업에 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class StatisticsRollupService {
+
+    private static final int REBUILD_PAGE_SIZE = 1_000;
+
+    private final StatisticsRollupRepository rollupRepository;
+    private final StatisticsRollupJdbcRepository rollupJdbcRepository;
+    private final RecordRepository recordRepository;
+    private final EntityManager entityManager;
+
+    /**
+     * 증감분 반영 (호출한 쪽의 트랜잭션에 참여)
+     * - 수정 전/후가 상계되고 남은 행만 한 문장으로 upsert (금액/날짜/할부 정보가 그대로면 아무 쿼리도 없음)
+     */
+    @Transactional
+    public void apply(Long userId, StatisticsRollupDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        rollupJdbcRepository.upsertAll(userId, delta.getChanges());
+
+        boolean hasDecrease = delta.getChanges().values().stream()
+                .anyMatch(change -> change.getCount() < 0);
+        if (hasDecrease) {
+            rollupRepository.deleteEmptyRows(userId);
+        }
+    }
+
+    /**
+     * 롤업 테이블이 비어 있을 때 기존 기록으로 전체 적재
+     * - 일반 기록은 SQL 집계로 한 번에, 할부는 회차를 계산해야 하므로 사용자별 증감분으로 반영
+     * - 할부 기록은 id 순으로 REBUILD_PAGE_SIZE 건씩 읽고, 페이지마다 반영 후 영속성 컨텍스트를 비움
+     *   (롤업 증감은 더하기만 하므로 같은 사용자가 여러 페이지에 걸쳐도 결과는 같음)
+     */
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (rollupRepository.count() > 0) {
+            return;
+        }
+        int normalRows = rollupRepository.backfillNormalRecords();
+
+        int installmentCount = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<Record> page = recordRepository.findByIsInstallmentTrueAndIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            if (page.isEmpty()) {
+                break;
+            }
+
+            Map<Long, StatisticsRollupDelta> deltas = new HashMap<>();
+            for (Record record : page) {
+                deltas.computeIfAbsent(record.getUser().getId(), id -> new StatisticsRollupDelta()).add(record);
+            }
+            deltas.forEach(this::apply);
+
+            installmentCount += page.size();
+            lastId = page.get(page.size() - 1).getId();
+            entityManager.clear(); // 읽기만 한 엔티티라 flush 할 변경 없음
+        }
+        log.info("통계 롤업 초기 적재 완료. 일반 {}행, 할부 기록 {}건", normalRows, installmentCount);
+    }
+}
@@ -1,8 +1,10 @@
 package com.darong.malgage_api.service;
 
 import com.darong.malgage_api.controller.dto.response.statistics.StatisticsResponseDto;
+import com.darong.malgage_api.domain.statistics.StatisticsCacheKey;
 import com.darong.malgage_api.domain.statistics.StatisticsPeriod;
 import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.global.cache.TwoLevelCache;
 import com.darong.malgage_api.repository.statistics.StatisticsQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,11 +16,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class StatisticsService {
 
     private final StatisticsQueryRepository statisticsQueryRepository;
+    private final TwoLevelCache<StatisticsCacheKey, StatisticsResponseDto> statisticsCache;
 
+    /**
+     * 통계 조회 (캐시)
+     * - 기록 변경 시 StatisticsCacheInvalidator 가 영향받는 기간만 무효화
+     */
     public StatisticsResponseDto getStatistics(User user, StatisticsPeriod period, int year, Integer month) {
         if (period == StatisticsPeriod.MONTHLY && month == null) {
             throw new IllegalArgumentException("월별 통계는 month 파라미터가 필수입니다.");
         }
-        return statisticsQueryRepository.getStatistics(user, period, year, month);
+        return statisticsCache.get(
+                StatisticsCacheKey.of(user.getId(), period, year, month),
+                key -> statisticsQueryRepository.getStatistics(user, period, year, month)
+        );
     }
 }
@@ -0,0 +1,217 @@
+package com.darong.malgage_api.service;
+
+import com.darong.malgage_api.controller.dto.response.category.CategoryResponseDto;
+import com.darong.malgage_api.controller.dto.response.emotion.EmotionResponseDto;
+import com.darong.malgage_api.controller.dto.response.record.RecordResponseDto;
+import com.darong.malgage_api.controller.dto.response.sync.SyncResponseDto;
+import com.darong.malgage_api.domain.category.CategoryScope;
+import com.darong.malgage_api.domain.emotion.EmotionScope;
+import com.darong.malgage_api.domain.record.InstallmentPlan;
+import com.darong.malgage_api.domain.sync.SyncEntityType;
+import com.darong.malgage_api.domain.sync.SyncTombstone;
+import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.repository.category.CategoryRepository;
+import com.darong.malgage_api.repository.category.UserCategoryVisibilityRepository;
+import com.darong.malgage_api.repository.emotion.EmotionRepository;
+import com.darong.malgage_api.repository.emotion.UserEmotionVisibilityRepository;
+import com.darong.malgage_api.repository.record.RecordQueryRepository;
+import com.darong.malgage_api.repository.sync.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 증분 동기화 (/api/sync)
+ * - 변경 토큰 = 이번 동기화를 시작한 서버 시각, 다음 요청에서는 그 이후 updatedAt 인 행만 내려줌
+ * - 토큰 시각 직전에 수정되고 늦게 커밋된 행을 놓치지 않도록 SYNC_OVERLAP 만큼 겹쳐서 조회
+ *   (겹친 구간의 행은 두 번 올 수 있음 → 클라이언트는 id 기준 upsert)
+ * - 기록은 SYNC_PAGE_SIZE 건씩 나눠 내려줌: 더 있으면 hasMore = true 와 이어받기 토큰을 주고,
+ *   마지막 페이지에서야 동기화 시작 시각 토큰을 줌 (중간에 끊겨도 다시 이어받거나 처음부터 다시 받으면 됨)
+ * - 삭제는 SyncTombstone 으로 전달, 보관 기간보다 오래된 토큰이면 전체 재동기화
+ * - 할부 회차는 저장하지 않으므로 바뀐 할부 기록의 전체 회차를 계산해서 함께 내려줌
+ * - 카테고리/감정은 사용자당 수십 건이라 바뀐 게 있으면 전체 목록을 내려줌 (삭제 기록과 함께 첫 페이지에만)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+    private static final int SYNC_PAGE_SIZE = 500;
+
+    /**
+     * 해석한 동기화 토큰
+     * @param syncStart 이번 동기화(첫 페이지)를 시작한 시각, 마지막 페이지의 nextToken 이 됨
+     * @param from 이 시각 이후 수정분만 (null 이면 전체 동기화)
+     * @param afterId 이어받기 위치 (null 이면 첫 페이지)
+     */
+    private record SyncToken(LocalDateTime syncStart, LocalDateTime from, Long afterId) {
+
+        boolean isFirstPage() {
+            return afterId == null;
+        }
+    }
+
+    private final RecordQueryRepository recordQueryRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserCategoryVisibilityRepository categoryVisibilityRepository;
+    private final EmotionRepository emotionRepository;
+    private final UserEmotionVisibilityRepository emotionVisibilityRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final CategoryService categoryService;
+    private final EmotionService emotionService;
+
+    /**
+     * @param token 직전 응답의 nextToken (null / 잘못된 값 / 만료면 전체 동기화)
+     */
+    public SyncResponseDto sync(User user, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        SyncToken current = parseToken(token, now);
+        if (current.from() != null && current.from().isBefore(now.minus(SyncTombstone.RETENTION))) {
+            // 겹침 구간까지 보관 기간 안이어야 정리된 삭제 기록을 놓치지 않음
+            log.info("동기화 토큰 만료, 전체 동기화: userId={}, from={}", user.getId(), current.from());
+            current = new SyncToken(now, null, null);
+        }
+        boolean fullResync = current.from() == null;
+        LocalDateTime from = current.from();
+
+        List<RecordResponseDto> records = recordQueryRepository
+                .findRecordsUpdatedSince(user, from, current.afterId(), SYNC_PAGE_SIZE + 1);
+        boolean hasMore = records.size() > SYNC_PAGE_SIZE;
+        if (hasMore) {
+            records = records.subList(0, SYNC_PAGE_SIZE);
+        }
+
+        List<RecordResponseDto> installments = new ArrayList<>();
+        for (RecordResponseDto row : records) {
+            if (!row.isInstallment()) {
+                continue;
+            }
+            InstallmentPlan plan = InstallmentPlan.of(row.getDate(), row.getAmount(), row.getInstallmentMonths());
+            if (plan != null) {
+                plan.all().forEach(installment -> installments.add(row.withInstallment(installment)));
+            }
+        }
+
+        Map<SyncEntityType, List<Long>> deleted = new EnumMap<>(SyncEntityType.class);
+        for (SyncEntityType type : SyncEntityType.values()) {
+            deleted.put(type, new ArrayList<>());
+        }
+        boolean categoriesChanged = false;
+        boolean emotionsChanged = false;
+        if (current.isFirstPage()) {
+            if (!fullResync) {
+                for (SyncTombstone tombstone : syncTombstoneRepository.findByUserIdAndDeletedAtGreaterThanEqual(user.getId(), from)) {
+                    deleted.get(tombstone.getEntityType()).add(tombstone.getEntityId());
+                }
+            }
+
+            categoriesChanged = fullResync
+                    || !deleted.get(SyncEntityType.CATEGORY).isEmpty()
+                    || categoryRepository.existsByUserIdAndUpdatedAtGreaterThanEqual(user.getId(), from)
+                    || categoryVisibilityRepository.existsByUser_IdAndUpdatedAtGreaterThanEqual(user.getId(), from);
+            emotionsChanged = fullResync
+                    || !deleted.get(SyncEntityType.EMOTION).isEmpty()
+                    || emotionRepository.existsByUserIdAndUpdatedAtGreaterThanEqual(user.getId(), from)
+                    || emotionVisibilityRepository.existsByUser_IdAndUpdatedAtGreaterThanEqual(user.getId(), from);
+        }
+
+        String nextToken = hasMore
+                ? toContinuationToken(current, records.get(records.size() - 1).getId())
+                : toToken(current.syncStart());
+
+        return new SyncResponseDto(
+                nextToken,
+                fullResync && current.isFirstPage(),
+                hasMore,
+                records,
+                installments,
+                deleted.get(SyncEntityType.RECORD),
+                categoriesChanged ? allCategories(user) : null,
+                deleted.get(SyncEntityType.CATEGORY),
+                emotionsChanged ? allEmotions(user) : null,
+                deleted.get(SyncEntityType.EMOTION)
+        );
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리 (SyncTombstonePurgeScheduler)
+     * - 토큰 만료 판단과 같은 기준이라, 만료되지 않은 토큰이 읽을 삭제 기록은 남아 있음
+     * @return 삭제한 행 수
+     */
+    @Transactional
+    public int purgeExpiredTombstones() {
+        return syncTombstoneRepository.deleteDeletedBefore(LocalDateTime.now().minus(SyncTombstone.RETENTION));
+    }
+
+    private List<CategoryResponseDto> allCategories(User user) {
+        List<CategoryResponseDto> categories = new ArrayList<>(categoryService.getCategoriesByScope(user, CategoryScope.DEFAULT, null));
+        categories.addAll(categoryService.getCategoriesByScope(user, CategoryScope.CUSTOM, null));
+        return categories;
+    }
+
+    private List<EmotionResponseDto> allEmotions(User user) {
+        List<EmotionResponseDto> emotions = new ArrayList<>(emotionService.getEmotionsByScope(user, EmotionScope.DEFAULT));
+        emotions.addAll(emotionService.getEmotionsByScope(user, EmotionScope.CUSTOM));
+        return emotions;
+    }
+
+    /**
+     * 토큰: 서버 시각(epoch millis)의 36진수 문자열 (클라이언트에게는 불투명한 값)
+     * - 이어받기 토큰: "동기화 시작.조회 하한(전체면 빈 값).마지막 기록 id" (각 36진수)
+     */
+    private static String toToken(LocalDateTime time) {
+        return toEpoch36(time);
+    }
+
+    private static String toContinuationToken(SyncToken token, Long lastId) {
+        return toEpoch36(token.syncStart())
+                + "." + (token.from() == null ? "" : toEpoch36(token.from()))
+                + "." + Long.toString(lastId, 36);
+    }
+
+    /**
+     * @return 토큰이 없거나 잘못되면 now 에 시작하는 전체 동기화
+     */
+    private static SyncToken parseToken(String token, LocalDateTime now) {
+        if (token == null || token.isBlank()) {
+            return new SyncToken(now, null, null);
+        }
+        try {
+            String[] parts = token.split("\\.", -1);
+            if (parts.length == 1) {
+                return new SyncToken(now, fromEpoch36(parts[0]).minus(SYNC_OVERLAP), null);
+            }
+            if (parts.length == 3) {
+                return new SyncToken(
+                        fromEpoch36(parts[0]),
+                        parts[1].isEmpty() ? null : fromEpoch36(parts[1]),
+                        Long.parseLong(parts[2], 36));
+            }
+        } catch (NumberFormatException | DateTimeException e) {
+            // 아래에서 전체 동기화
+        }
+        log.warn("잘못된 동기화 토큰, 전체 동기화: token={}", token);
+        return new SyncToken(now, null, null);
+    }
+
+    private static String toEpoch36(LocalDateTime time) {
+        return Long.toString(time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), 36);
+    }
+
+    private static LocalDateTime fromEpoch36(String value) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value, 36)), ZoneId.systemDefault());
+    }
+}
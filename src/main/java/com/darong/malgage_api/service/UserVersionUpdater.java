@@ -0,0 +1,31 @@
+package com.darong.malgage_api.service;
+
+import com.darong.malgage_api.domain.record.RecordChangedEvent;
+import com.darong.malgage_api.domain.user.UserCatalogChangedEvent;
+import com.darong.malgage_api.global.cache.UserVersionRegistry;
+import com.darong.malgage_api.global.cache.VersionScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 데이터 변경 이벤트 → 사용자별 버전 갱신
+ * - 커밋 이후에 올려서, 커밋 전 옛 데이터가 새 버전으로 캐시되는 경우를 막음
+ */
+@Component
+@RequiredArgsConstructor
+public class UserVersionUpdater {
+
+    private final UserVersionRegistry userVersionRegistry;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogChanged(UserCatalogChangedEvent event) {
+        userVersionRegistry.bump(VersionScope.CATALOG, event.userId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecordChanged(RecordChangedEvent event) {
+        userVersionRegistry.bump(VersionScope.RECORDS, event.userId());
+    }
+}
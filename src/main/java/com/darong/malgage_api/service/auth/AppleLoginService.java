@@ -43,7 +43,7 @@ public class AppleLoginService {
                 ));
 
         // Access/Refresh 발급 및 저장
-        String accessToken = jwtProvider.createAccessToken(user.getEmail() != null ? user.getEmail() : user.getId().toString(), AuthProvider.APPLE, oauthId);
+        String accessToken = jwtProvider.createAccessToken(user.getId(), user.getEmail() != null ? user.getEmail() : user.getId().toString(), AuthProvider.APPLE, oauthId);
         String refreshToken = jwtProvider.createRefreshToken();
 
         refreshTokenRepository.findByUserId(user.getId())
@@ -46,7 +46,7 @@ public class AuthService {
         User user = userRepository.findById(savedToken.getUserId())
                 .orElseThrow(() -> new RuntimeException("해당 유저가 존재하지 않습니다."));
 
-        String newAccessToken = jwtProvider.createAccessToken(user.getEmail(), user.getProvider(), user.getOauthId());
+        String newAccessToken = jwtProvider.createAccessToken(user.getId(), user.getEmail(), user.getProvider(), user.getOauthId());
         String newRefreshToken = jwtProvider.createRefreshToken();
 
         savedToken.updateToken(newRefreshToken);
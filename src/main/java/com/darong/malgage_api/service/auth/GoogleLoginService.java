@@ -47,7 +47,7 @@ public class GoogleLoginService {
                 ));
 
         // Access + Refresh Token 발급
-        String accessToken = jwtProvider.createAccessToken(email, AuthProvider.GOOGLE, oauthId);
+        String accessToken = jwtProvider.createAccessToken(user.getId(), email, AuthProvider.GOOGLE, oauthId);
         String refreshToken = jwtProvider.createRefreshToken();
 
         // Refresh Token 저장 또는 갱신
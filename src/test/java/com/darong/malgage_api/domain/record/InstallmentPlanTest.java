@@ -0,0 +1,93 @@
+package com.darong.malgage_api.domain.record;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * InstallmentPlan 이 회차 행을 저장하던 때의 계산(RecordService.createInstallmentSchedules /
+ * calculateInstallmentDate)과 같은 납부일/월 납부금을 내는지 확인
+ */
+class InstallmentPlanTest {
+
+    @Test
+    void clampsToMonthEnd() {
+        InstallmentPlan plan = InstallmentPlan.of(LocalDateTime.of(2025, 1, 31, 14, 30), 120_000, 4);
+
+        assertThat(plan.all()).extracting(InstallmentPlan.Installment::scheduledDate).containsExactly(
+                LocalDateTime.of(2025, 1, 31, 14, 30),
+                LocalDateTime.of(2025, 2, 28, 14, 30),
+                LocalDateTime.of(2025, 3, 31, 14, 30),
+                LocalDateTime.of(2025, 4, 30, 14, 30));
+    }
+
+    @Test
+    void clampsToLeapDay() {
+        InstallmentPlan plan = InstallmentPlan.of(LocalDateTime.of(2024, 1, 31, 9, 0), 60_000, 2);
+
+        assertThat(plan.dateOf(1)).isEqualTo(LocalDateTime.of(2024, 2, 29, 9, 0));
+        assertThat(plan.lastDate()).isEqualTo(LocalDateTime.of(2024, 2, 29, 9, 0));
+    }
+
+    @Test
+    void dropsRemainderLikeLegacy() {
+        InstallmentPlan plan = InstallmentPlan.of(LocalDateTime.of(2025, 3, 15, 0, 0), 100_000, 3);
+
+        assertThat(plan.getMonthlyAmount()).isEqualTo(legacyMonthlyAmount(100_000, 3)).isEqualTo(33_333);
+        assertThat(plan.all()).extracting(InstallmentPlan.Installment::monthlyAmount).containsOnly(33_333);
+    }
+
+    @Test
+    void matchesLegacyScheduleForEveryDayAndTerm() {
+        LocalDateTime time = LocalDateTime.of(2023, 1, 1, 23, 59, 59);
+        for (LocalDate day = LocalDate.of(2023, 1, 1); day.isBefore(LocalDate.of(2025, 1, 1)); day = day.plusDays(1)) {
+            LocalDateTime base = day.atTime(time.toLocalTime());
+            for (int months = 1; months <= 24; months++) {
+                int amount = 1_000_003 + day.getDayOfYear();
+                InstallmentPlan plan = InstallmentPlan.of(base, amount, months);
+
+                List<InstallmentPlan.Installment> installments = plan.all();
+                assertThat(installments).hasSize(months);
+                for (int k = 0; k < months; k++) {
+                    InstallmentPlan.Installment installment = installments.get(k);
+                    assertThat(installment.index()).isEqualTo(k + 1);
+                    assertThat(installment.scheduledDate()).isEqualTo(legacyInstallmentDate(base, k));
+                    assertThat(installment.monthlyAmount()).isEqualTo(legacyMonthlyAmount(amount, months));
+                }
+            }
+        }
+    }
+
+    @Test
+    void betweenSelectsInstallmentsInRange() {
+        InstallmentPlan plan = InstallmentPlan.of(LocalDateTime.of(2025, 1, 31, 14, 30), 120_000, 12);
+
+        List<InstallmentPlan.Installment> february = plan.between(
+                LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 2, 28, 23, 59, 59));
+
+        assertThat(february).extracting(InstallmentPlan.Installment::index).containsExactly(2);
+        assertThat(plan.between(null, null)).isEqualTo(plan.all());
+        assertThat(plan.between(LocalDateTime.of(2026, 2, 1, 0, 0), null)).isEmpty();
+    }
+
+    // ===== 회차 행 저장 시절 계산 (비교 기준) =====
+
+    private static LocalDateTime legacyInstallmentDate(LocalDateTime baseDateTime, int monthOffset) {
+        LocalDate baseDate = baseDateTime.toLocalDate();
+        LocalDate targetDate = baseDate.plusMonths(monthOffset);
+
+        int dayOfMonth = baseDate.getDayOfMonth();
+        int lastDayOfMonth = targetDate.lengthOfMonth();
+
+        LocalDate correctedDate = targetDate.withDayOfMonth(Math.min(dayOfMonth, lastDayOfMonth));
+        return correctedDate.atTime(baseDateTime.toLocalTime());
+    }
+
+    private static int legacyMonthlyAmount(int amount, int installmentMonths) {
+        return amount / installmentMonths;
+    }
+}
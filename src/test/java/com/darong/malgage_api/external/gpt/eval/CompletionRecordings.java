@@ -0,0 +1,153 @@
+package com.darong.malgage_api.external.gpt.eval;
+
+import com.darong.malgage_api.external.gpt.util.PromptTemplates;
+import com.darong.malgage_api.external.gpt.util.PromptVariant;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프롬프트 형태(PromptVariant) × 발화 별로 녹화된 실제 completion
+ * - 재생: eval/recordings/{VARIANT}.json 에서 (형태, 발화)로 찾음 → 같은 발화라도 형태마다 다른 응답
+ * - 녹화: -Deval.record=true 이고 OPENAI_API_KEY 가 있으면, 녹화가 없는 (형태, 발화)만 실제 API 로 보내고 결과를 저장
+ * - 날짜는 ${D±n} 자리표시자로 저장해 녹화일과 평가일이 달라도 재생 가능
+ */
+class CompletionRecordings {
+
+    private static final String DEFAULT_UPSTREAM_URL = "https://api.openai.com/v1/chat/completions";
+    private static final String DEFAULT_RECORDINGS_DIR = "src/test/resources/eval/recordings";
+
+    private record Recording(String utterance, String completion) {}
+
+    private final ObjectMapper objectMapper;
+    private final Map<PromptVariant, Map<String, String>> recordings = new EnumMap<>(PromptVariant.class); // 발화 → 자리표시자 상태의 content
+    private final Map<PromptVariant, String> promptHeaders = new EnumMap<>(PromptVariant.class);
+    private final String apiKey; // null 이면 재생 전용
+    private final HttpClient httpClient;
+
+    private CompletionRecordings(ObjectMapper objectMapper, String apiKey) {
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.httpClient = apiKey == null ? null : HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+        // 시스템 프롬프트 첫 줄로 형태 구분 (실제 템플릿에서 가져옴)
+        promptHeaders.put(PromptVariant.VERBOSE, firstLine(PromptTemplates.systemPrompt("", "", "")));
+        promptHeaders.put(PromptVariant.COMPACT, firstLine(PromptTemplates.compactSystemPrompt("", "", "", "")));
+    }
+
+    static CompletionRecordings load(ObjectMapper objectMapper) throws IOException {
+        String apiKey = Boolean.getBoolean("eval.record") ? System.getenv("OPENAI_API_KEY") : null;
+        if (Boolean.getBoolean("eval.record") && (apiKey == null || apiKey.isBlank())) {
+            throw new IllegalStateException("eval.record=true 이면 OPENAI_API_KEY 가 필요합니다.");
+        }
+
+        CompletionRecordings recordings = new CompletionRecordings(objectMapper, apiKey);
+        for (PromptVariant variant : PromptVariant.values()) {
+            Map<String, String> byUtterance = new ConcurrentHashMap<>();
+            try (InputStream in = CompletionRecordings.class.getResourceAsStream("/eval/recordings/" + variant + ".json")) {
+                if (in != null) {
+                    List<Recording> list = objectMapper.readValue(in, new TypeReference<>() {});
+                    list.forEach(r -> byUtterance.put(r.utterance(), r.completion()));
+                }
+            }
+            recordings.recordings.put(variant, byUtterance);
+        }
+        return recordings;
+    }
+
+    boolean isRecording() {
+        return apiKey != null;
+    }
+
+    /**
+     * 재생할 녹화가 있거나 녹화 모드라 평가 가능한지
+     */
+    boolean covers(PromptVariant variant, List<String> utterances) {
+        return isRecording() || recordings.get(variant).keySet().containsAll(utterances);
+    }
+
+    /**
+     * 요청의 시스템 프롬프트가 어떤 형태로 만들어졌는지 (알 수 없으면 empty)
+     */
+    Optional<PromptVariant> variantOf(String systemPrompt) {
+        return promptHeaders.entrySet().stream()
+                .filter(e -> systemPrompt.startsWith(e.getValue()))
+                .map(Map.Entry::getKey)
+                .findFirst();
+    }
+
+    /**
+     * (형태, 발화)의 completion (날짜는 오늘 기준으로 치환)
+     * - 녹화 모드에서 녹화가 없으면 원 요청 그대로 실제 API 에 보내고 저장
+     */
+    Optional<String> completion(PromptVariant variant, String utterance, byte[] requestBody) throws IOException {
+        Map<String, String> byUtterance = recordings.get(variant);
+        String recorded = byUtterance.get(utterance);
+        if (recorded == null && isRecording()) {
+            recorded = RelativeDates.toPlaceholders(callUpstream(requestBody));
+            byUtterance.putIfAbsent(utterance, recorded);
+        }
+        return Optional.ofNullable(recorded).map(RelativeDates::resolve);
+    }
+
+    /**
+     * 녹화 모드일 때만 형태별 파일로 저장 (기존 항목 유지, 새 항목 추가)
+     */
+    void save() throws IOException {
+        if (!isRecording()) {
+            return;
+        }
+        Path dir = Path.of(System.getProperty("eval.recordingsDir", DEFAULT_RECORDINGS_DIR));
+        Files.createDirectories(dir);
+        for (Map.Entry<PromptVariant, Map<String, String>> entry : recordings.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            List<Recording> list = new ArrayList<>();
+            entry.getValue().forEach((utterance, completion) -> list.add(new Recording(utterance, completion)));
+            list.sort((a, b) -> a.utterance().compareTo(b.utterance()));
+            objectMapper.writer(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(dir.resolve(entry.getKey() + ".json").toFile(), list);
+        }
+    }
+
+    private String callUpstream(byte[] requestBody) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(System.getProperty("eval.upstreamUrl", DEFAULT_UPSTREAM_URL)))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + apiKey)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody))
+                .build();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IOException("OpenAI 녹화 호출 실패: HTTP " + response.statusCode());
+            }
+            return objectMapper.readTree(response.body())
+                    .path("choices").path(0).path("message").path("content").asText();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("OpenAI 녹화 호출 중단", e);
+        }
+    }
+
+    private static String firstLine(String prompt) {
+        return prompt.lines().findFirst().orElse("");
+    }
+}
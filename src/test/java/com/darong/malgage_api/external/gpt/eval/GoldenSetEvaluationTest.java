@@ -0,0 +1,282 @@
+package com.darong.malgage_api.external.gpt.eval;
+
+import com.darong.malgage_api.controller.dto.response.category.CategoryResponseDto;
+import com.darong.malgage_api.controller.dto.response.emotion.EmotionResponseDto;
+import com.darong.malgage_api.controller.dto.response.record.MultipleRecordAnalysisResponse;
+import com.darong.malgage_api.controller.dto.response.record.RecordAnalysisResponse;
+import com.darong.malgage_api.domain.category.CategoryScope;
+import com.darong.malgage_api.domain.category.CategoryType;
+import com.darong.malgage_api.domain.emotion.EmotionScope;
+import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.external.gpt.service.*;
+import com.darong.malgage_api.external.gpt.util.PromptVariant;
+import com.darong.malgage_api.global.cache.UserVersionRegistry;
+import com.darong.malgage_api.global.config.OpenAiConfig;
+import com.darong.malgage_api.global.config.OpenAiResilienceConfig;
+import com.darong.malgage_api.global.config.WebClientConfig;
+import com.darong.malgage_api.repository.category.CategoryQueryRepository;
+import com.darong.malgage_api.repository.emotion.EmotionQueryRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * GPT 추출 파이프라인 골든셋 평가 + 지연 측정 (네트워크 없이 로컬 대역 서버 사용)
+ * - PromptTemplateService → GptService(캐시/로컬 파서/OpenAI 클라이언트) → GptResponseParser 를 실제 구성으로 연결
+ * - 프롬프트 형태(PromptVariant)별로 실행, 대역 서버는 (형태, 발화)별로 녹화된 실제 completion 을 재생 (eval/recordings)
+ * - 정확도: eval/golden-set.json 의 기대값과 필드 단위 비교
+ * - 지연: 호출 단위 end-to-end p50/p95/p99, 호출당 할당량(대역 서버 스레드 제외, 근사치)
+ * - 실행: ./gradlew evalTest (-Deval.latencyMs=300 -Deval.rateLimitRate=0.1 -Deval.serverErrorRate=0.05 -Deval.iterations=500)
+ * - 녹화: OPENAI_API_KEY=... ./gradlew evalTest -Deval.record=true (녹화 없는 (형태, 발화)만 실제 API 호출 후 저장)
+ */
+@Tag("eval")
+class GoldenSetEvaluationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GoldenSetEvaluationTest.class);
+
+    private record GoldenCase(String utterance, List<Map<String, Object>> expected) {}
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicLong userIds = new AtomicLong();
+
+    private List<GoldenCase> cases;
+    private CompletionRecordings recordings;
+    private StubOpenAiServer stub;
+    private ConnectionProvider connectionProvider;
+    private GptService gptService;
+
+    private void setUp(PromptVariant variant) throws Exception {
+        cases = loadCases();
+        recordings = CompletionRecordings.load(objectMapper);
+        assumeTrue(recordings.covers(variant, cases.stream().map(GoldenCase::utterance).toList()),
+                variant + " 녹화가 없음 (OPENAI_API_KEY=... ./gradlew evalTest -Deval.record=true 로 녹화)");
+
+        stub = new StubOpenAiServer(objectMapper, recordings,
+                Long.getLong("eval.latencyMs", 0L),
+                Long.getLong("eval.latencyJitterMs", 0L),
+                doubleProperty("eval.rateLimitRate"),
+                doubleProperty("eval.serverErrorRate"));
+
+        OpenAiConfig config = new OpenAiConfig();
+        config.setApiKey("eval");
+        config.setModel("gpt-4o-mini");
+        config.setBaseUrl(stub.completionsUrl());
+        config.setBaseRetryDelayMs(10L);
+        config.setRequestsPerMinute(1_000_000); // 평가에서는 토큰 버킷 대기 제외
+        config.setPromptVariant(variant);
+
+        WebClientConfig webClientConfig = new WebClientConfig();
+        connectionProvider = webClientConfig.openAiConnectionProvider(config);
+        WebClient webClient = webClientConfig.openAiWebClient(WebClient.builder(), config, connectionProvider);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OpenAiRateLimiter rateLimiter = new OpenAiRateLimiter(config);
+        OpenAiApiClient apiClient = new OpenAiApiClient(webClient, config, objectMapper, rateLimiter,
+                new OpenAiResilienceConfig().openAiCircuitBreaker(config), new RetryBudget(config));
+
+        PromptTemplateService promptTemplateService = new PromptTemplateService(
+                categoryRepository(), emotionRepository(), objectMapper, new UserVersionRegistry(),
+                config, new PromptTokenCounter(config, meterRegistry));
+
+        gptService = new GptService(apiClient, new GptResponseParser(objectMapper), config, promptTemplateService,
+                new AnalysisResultCache(meterRegistry), new FastPathParser(), rateLimiter);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (stub == null) {
+            return;
+        }
+        stub.close();
+        connectionProvider.dispose();
+        recordings.save();
+    }
+
+    @ParameterizedTest
+    @EnumSource(PromptVariant.class)
+    void goldenSetAccuracyAndLatency(PromptVariant variant) throws Exception {
+        setUp(variant);
+
+        // 1) 정확도 (발화마다 새 사용자 → 분석 캐시 미사용)
+        int casesPassed = 0;
+        int fieldsChecked = 0;
+        int fieldsMatched = 0;
+        for (GoldenCase goldenCase : cases) {
+            MultipleRecordAnalysisResponse response = analyze(goldenCase.utterance());
+            int[] fieldResult = compare(goldenCase, response);
+            fieldsChecked += fieldResult[0];
+            fieldsMatched += fieldResult[1];
+            if (fieldResult[0] == fieldResult[1]) {
+                casesPassed++;
+            } else {
+                log.info("[eval] {} 불일치: {} → {}", variant, goldenCase.utterance(), response.getRecords());
+            }
+        }
+        double caseAccuracy = casesPassed / (double) cases.size();
+        double fieldAccuracy = fieldsChecked == 0 ? 0 : fieldsMatched / (double) fieldsChecked;
+
+        // 2) 지연 / 할당량
+        int iterations = Integer.getInteger("eval.iterations", 200);
+        for (int i = 0; i < Math.min(20, iterations); i++) {
+            analyze(cases.get(i % cases.size()).utterance()); // 워밍업
+        }
+
+        long[] latencies = new long[iterations];
+        int failures = 0;
+        long allocatedBefore = allocatedBytesExcludingStub();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            MultipleRecordAnalysisResponse response = analyze(cases.get(i % cases.size()).utterance());
+            latencies[i] = System.nanoTime() - start;
+            if (!response.isSuccess()) {
+                failures++;
+            }
+        }
+        long allocatedPerCall = (allocatedBytesExcludingStub() - allocatedBefore) / Math.max(iterations, 1);
+        Arrays.sort(latencies);
+
+        log.info("""
+                [eval] {}
+                [eval] 골든셋 %d건: 케이스 정확도 %.1f%% (%d/%d), 필드 정확도 %.1f%% (%d/%d)
+                [eval] 지연 %d회: p50 %.1fms, p95 %.1fms, p99 %.1fms, 실패 %d회
+                [eval] 호출당 할당량(근사): %,d bytes
+                [eval] 대역 서버 요청 %d회 (주입된 오류 %d회)""".formatted(
+                cases.size(), caseAccuracy * 100, casesPassed, cases.size(), fieldAccuracy * 100, fieldsMatched, fieldsChecked,
+                iterations, percentileMs(latencies, 50), percentileMs(latencies, 95), percentileMs(latencies, 99), failures,
+                allocatedPerCall,
+                stub.requestCount(), stub.injectedErrorCount()), variant);
+
+        if (stub.injectedErrorCount() == 0) {
+            assertThat(caseAccuracy).isGreaterThanOrEqualTo(doubleProperty("eval.minAccuracy", 1.0));
+        }
+    }
+
+    // ===== 파이프라인 호출 =====
+
+    private MultipleRecordAnalysisResponse analyze(String utterance) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(userIds.incrementAndGet());
+        return gptService.extractRecordInfo(user, utterance).join();
+    }
+
+    /**
+     * @return [비교한 필드 수, 일치한 필드 수] (기록 수가 다르면 기대 필드 전부 불일치)
+     */
+    private int[] compare(GoldenCase goldenCase, MultipleRecordAnalysisResponse response) {
+        int checked = goldenCase.expected().stream().mapToInt(Map::size).sum();
+        List<RecordAnalysisResponse> records = response.getRecords();
+        if (!response.isSuccess() || records == null || records.size() != goldenCase.expected().size()) {
+            return new int[]{checked, 0};
+        }
+
+        int matched = 0;
+        for (int i = 0; i < records.size(); i++) {
+            JsonNode actual = objectMapper.valueToTree(records.get(i));
+            for (Map.Entry<String, Object> field : goldenCase.expected().get(i).entrySet()) {
+                if (Objects.equals(String.valueOf(field.getValue()), actual.path(field.getKey()).asText())) {
+                    matched++;
+                }
+            }
+        }
+        return new int[]{checked, matched};
+    }
+
+    // ===== 코퍼스 / 카탈로그 =====
+
+    private List<GoldenCase> loadCases() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/eval/golden-set.json")) {
+            String json = RelativeDates.resolve(new String(Objects.requireNonNull(in).readAllBytes(), StandardCharsets.UTF_8));
+            return objectMapper.readValue(json, new TypeReference<>() {});
+        }
+    }
+
+    private CategoryQueryRepository categoryRepository() {
+        CategoryQueryRepository repository = mock(CategoryQueryRepository.class);
+        when(repository.findVisibleCategoriesByUserAndType(any(), eq(CategoryType.EXPENSE))).thenAnswer(inv -> new ArrayList<>(List.of(
+                category(1L, "식비", CategoryType.EXPENSE, 1),
+                category(2L, "카페", CategoryType.EXPENSE, 2),
+                category(3L, "교통", CategoryType.EXPENSE, 3),
+                category(4L, "쇼핑", CategoryType.EXPENSE, 4),
+                category(5L, "의료", CategoryType.EXPENSE, 5))));
+        when(repository.findVisibleCategoriesByUserAndType(any(), eq(CategoryType.INCOME))).thenAnswer(inv -> new ArrayList<>(List.of(
+                category(20L, "급여", CategoryType.INCOME, 1),
+                category(21L, "용돈", CategoryType.INCOME, 2))));
+        return repository;
+    }
+
+    private EmotionQueryRepository emotionRepository() {
+        EmotionQueryRepository repository = mock(EmotionQueryRepository.class);
+        when(repository.findVisibleEmotionsByUser(any())).thenAnswer(inv -> new ArrayList<>(List.of(
+                emotion(1L, "기쁨", 1),
+                emotion(2L, "만족", 2),
+                emotion(3L, "보통", 3),
+                emotion(4L, "아쉬움", 4),
+                emotion(5L, "후회", 5))));
+        return repository;
+    }
+
+    private CategoryResponseDto category(Long id, String name, CategoryType type, int sortOrder) {
+        return new CategoryResponseDto(id, name, type, sortOrder, CategoryScope.DEFAULT, null,
+                true, false, null, null, null, true);
+    }
+
+    private EmotionResponseDto emotion(Long id, String name, int sortOrder) {
+        return new EmotionResponseDto(id, name, sortOrder, EmotionScope.DEFAULT, null,
+                true, false, null, null, null, true);
+    }
+
+    // ===== 측정 유틸 =====
+
+    private double percentileMs(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    /**
+     * 살아 있는 스레드의 누적 할당량 합 (대역 서버 스레드 제외)
+     */
+    private long allocatedBytesExcludingStub() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] ids = Thread.getAllStackTraces().keySet().stream()
+                .filter(t -> !t.getName().startsWith(StubOpenAiServer.THREAD_PREFIX))
+                .mapToLong(Thread::getId)
+                .toArray();
+        return Arrays.stream(threadMXBean.getThreadAllocatedBytes(ids)).filter(b -> b > 0).sum();
+    }
+
+    private static double doubleProperty(String key) {
+        return doubleProperty(key, 0.0);
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
@@ -0,0 +1,47 @@
+package com.darong.malgage_api.external.gpt.eval;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 골든셋/녹화 파일의 ${D-1} 같은 상대 날짜 자리표시자 ↔ 오늘 기준 날짜 변환
+ * - 녹화 시점과 평가 시점이 달라도 "어제/오늘" 발화의 기대값이 맞도록 함
+ */
+final class RelativeDates {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{D([+-]\\d+)}");
+    private static final Pattern DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+
+    private RelativeDates() {}
+
+    /**
+     * ${D±n} → 오늘 기준 yyyy-MM-dd
+     */
+    static String resolve(String text) {
+        LocalDate today = LocalDate.now();
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        StringBuilder sb = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(sb, today.plusDays(Integer.parseInt(matcher.group(1))).toString());
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    /**
+     * yyyy-MM-dd → 오늘 기준 ${D±n} (녹화 저장용)
+     */
+    static String toPlaceholders(String text) {
+        LocalDate today = LocalDate.now();
+        Matcher matcher = DATE.matcher(text);
+        StringBuilder sb = new StringBuilder();
+        while (matcher.find()) {
+            long days = ChronoUnit.DAYS.between(today, LocalDate.parse(matcher.group()));
+            matcher.appendReplacement(sb, Matcher.quoteReplacement("${D%+d}".formatted(days)));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,145 @@
+package com.darong.malgage_api.external.gpt.eval;
+
+import com.darong.malgage_api.external.gpt.util.PromptVariant;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 OpenAI 대역 서버 (평가용)
+ * - system 메시지의 프롬프트 형태(PromptVariant)와 마지막 user 메시지(발화)로 녹화된 completion 을 찾아 chat/completions 응답 형태로 반환
+ * - 녹화 모드면 녹화가 없는 요청을 실제 API 로 보내 녹화 (CompletionRecordings)
+ * - 지연(latencyMs + 0~jitterMs)과 오류(429 / 500) 비율을 설정 가능
+ */
+class StubOpenAiServer implements AutoCloseable {
+
+    static final String THREAD_PREFIX = "eval-stub-";
+
+    private final ObjectMapper objectMapper;
+    private final CompletionRecordings recordings;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double rateLimitRate;
+    private final double serverErrorRate;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger injectedErrors = new AtomicInteger();
+
+    StubOpenAiServer(ObjectMapper objectMapper, CompletionRecordings recordings,
+                     long latencyMs, long jitterMs, double rateLimitRate, double serverErrorRate) throws IOException {
+        this.objectMapper = objectMapper;
+        this.recordings = recordings;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.rateLimitRate = rateLimitRate;
+        this.serverErrorRate = serverErrorRate;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(16,
+                r -> new Thread(r, THREAD_PREFIX + threadIndex.incrementAndGet()));
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/v1/chat/completions", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    String completionsUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions";
+    }
+
+    int requestCount() {
+        return requests.get();
+    }
+
+    int injectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+            JsonNode messages = objectMapper.readTree(requestBody).path("messages");
+            String systemPrompt = messages.path(0).path("content").asText();
+            String utterance = messages.path(messages.size() - 1).path("content").asText();
+
+            sleep(latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0));
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < rateLimitRate) {
+                injectedErrors.incrementAndGet();
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                send(exchange, 429, "{\"error\":{\"message\":\"Rate limit reached\"}}");
+                return;
+            }
+            if (roll < rateLimitRate + serverErrorRate) {
+                injectedErrors.incrementAndGet();
+                send(exchange, 500, "{\"error\":{\"message\":\"stub server error\"}}");
+                return;
+            }
+
+            Optional<PromptVariant> variant = recordings.variantOf(systemPrompt);
+            if (variant.isEmpty()) {
+                send(exchange, 400, "{\"error\":{\"message\":\"unknown prompt variant\"}}");
+                return;
+            }
+
+            Optional<String> content;
+            try {
+                content = recordings.completion(variant.get(), utterance, requestBody);
+            } catch (IOException e) {
+                send(exchange, 502, "{\"error\":{\"message\":\"recording failed\"}}");
+                return;
+            }
+            if (content.isEmpty()) {
+                send(exchange, 404, "{\"error\":{\"message\":\"no recorded completion\"}}");
+                return;
+            }
+
+            Map<String, Object> body = Map.of("choices", List.of(
+                    Map.of("message", Map.of("role", "assistant", "content", content.get()))));
+            send(exchange, 200, objectMapper.writeValueAsString(body));
+        }
+    }
+
+    private void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,84 @@
+package com.darong.malgage_api.service;
+
+import com.darong.malgage_api.controller.dto.request.record.RecordSaveRequestDto;
+import com.darong.malgage_api.controller.dto.response.record.RecordResponseDto;
+import com.darong.malgage_api.domain.category.Category;
+import com.darong.malgage_api.domain.emotion.Emotion;
+import com.darong.malgage_api.domain.record.RecordType;
+import com.darong.malgage_api.domain.user.User;
+import com.darong.malgage_api.repository.category.CategoryRepository;
+import com.darong.malgage_api.repository.emotion.EmotionRepository;
+import com.darong.malgage_api.repository.record.RecordRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 기록 등록 시 월별 기록 캐시 write-through
+ * - hot month 의 응답 행은 트랜잭션 안에서 만들므로, 여기서 예외가 나면 등록 자체가 롤백됨
+ */
+@ExtendWith(MockitoExtension.class)
+class RecordServiceTest {
+
+    @Mock private RecordRepository recordRepository;
+    @Mock private CategoryRepository categoryRepository;
+    @Mock private EmotionRepository emotionRepository;
+    @Mock private MonthlyRecordCache monthlyRecordCache;
+    @Mock private StatisticsRollupService statisticsRollupService;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks private RecordService recordService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createRecordInHotMonthWithoutPaymentMethod() {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        Category category = mock(Category.class);
+        when(category.getId()).thenReturn(10L);
+        when(category.getName()).thenReturn("식비");
+        Emotion emotion = mock(Emotion.class);
+        when(emotion.getId()).thenReturn(20L);
+        when(emotion.getName()).thenReturn("보통");
+        when(categoryRepository.findById(10L)).thenReturn(Optional.of(category));
+        when(emotionRepository.findById(20L)).thenReturn(Optional.of(emotion));
+        when(monthlyRecordCache.isHot(any())).thenReturn(true);
+
+        LocalDateTime now = LocalDateTime.now();
+        RecordSaveRequestDto dto = mock(RecordSaveRequestDto.class);
+        when(dto.getAmount()).thenReturn(9000);
+        when(dto.getType()).thenReturn(RecordType.EXPENSE);
+        when(dto.getDate()).thenReturn(now);
+        when(dto.getCategoryId()).thenReturn(10L);
+        when(dto.getEmotionId()).thenReturn(20L);
+        when(dto.getPaymentMethod()).thenReturn(null);
+        when(dto.getMemo()).thenReturn("점심");
+
+        recordService.createRecord(user, dto);
+
+        ArgumentCaptor<Map<YearMonth, List<RecordResponseDto>>> rows = ArgumentCaptor.forClass(Map.class);
+        verify(monthlyRecordCache).writeThrough(eq(1L), isNull(), rows.capture());
+        List<RecordResponseDto> monthRows = rows.getValue().get(YearMonth.from(now));
+        assertThat(monthRows).hasSize(1);
+        assertThat(monthRows.get(0).getPaymentMethod()).isNull();
+        assertThat(monthRows.get(0).getAmount()).isEqualTo(9000);
+    }
+}